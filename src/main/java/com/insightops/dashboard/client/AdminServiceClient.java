@@ -1,6 +1,9 @@
 package com.insightops.dashboard.client;
 
+import com.insightops.dashboard.config.ExternalServiceProperties;
 import com.insightops.dashboard.dto.AssigneeDto;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -20,12 +23,14 @@ import java.util.Optional;
 public class AdminServiceClient {
     
     private final RestTemplate restTemplate;
+    private final ServiceGuard serviceGuard;
     
     @Value("${external.admin-service.base-url:http://localhost:8004}")
     private String adminServiceUrl;
     
-    public AdminServiceClient(RestTemplate restTemplate) {
+    public AdminServiceClient(@Qualifier("adminRestTemplate") RestTemplate restTemplate, ServiceGuard serviceGuard) {
         this.restTemplate = restTemplate;
+        this.serviceGuard = serviceGuard;
     }
     
     /**
@@ -35,12 +40,12 @@ public class AdminServiceClient {
         try {
             String url = adminServiceUrl + "/api/assignees";
             
-            var response = restTemplate.exchange(
+            var response = serviceGuard.call(ExternalServiceProperties.ADMIN, () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
                 new ParameterizedTypeReference<List<AssigneeDto>>() {}
-            );
+            ));
             
             return response.getBody() != null ? response.getBody() : Collections.emptyList();
             
@@ -58,12 +63,12 @@ public class AdminServiceClient {
         try {
             String url = adminServiceUrl + "/api/assignees/category/" + consultingCategory;
             
-            var response = restTemplate.exchange(
+            var response = serviceGuard.call(ExternalServiceProperties.ADMIN, () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
                 AssigneeDto.class
-            );
+            ));
             
             return Optional.ofNullable(response.getBody());
             
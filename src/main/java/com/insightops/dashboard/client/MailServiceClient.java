@@ -1,10 +1,13 @@
 package com.insightops.dashboard.client;
 
+import com.insightops.dashboard.config.ExternalServiceProperties;
 import com.insightops.dashboard.domain.MessagePreviewCache;
 import com.insightops.dashboard.dto.MailGenerateRequestDto;
 import com.insightops.dashboard.dto.MailGenerateResponseDto;
 import com.insightops.dashboard.dto.MailPreviewDto;
 import com.insightops.dashboard.dto.MailSendRequestDto;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -26,12 +29,14 @@ import java.util.Map;
 public class MailServiceClient {
     
     private final RestTemplate restTemplate;
+    private final ServiceGuard serviceGuard;
     
     @Value("${external.mail-service.base-url:http://localhost:8003}")
     private String mailServiceUrl;
     
-    public MailServiceClient(RestTemplate restTemplate) {
+    public MailServiceClient(@Qualifier("mailRestTemplate") RestTemplate restTemplate, ServiceGuard serviceGuard) {
         this.restTemplate = restTemplate;
+        this.serviceGuard = serviceGuard;
     }
     
     /**
@@ -48,7 +53,7 @@ public class MailServiceClient {
             MailGenerateRequestDto request = new MailGenerateRequestDto(categoryId);
             HttpEntity<MailGenerateRequestDto> entity = new HttpEntity<>(request, headers);
             
-            var response = restTemplate.postForObject(url, entity, MailGenerateResponseDto.class);
+            var response = serviceGuard.call(ExternalServiceProperties.MAIL, () -> restTemplate.postForObject(url, entity, MailGenerateResponseDto.class));
             return response != null ? response : new MailGenerateResponseDto("", "", categoryId, false, "메일 생성 실패");
             
         } catch (RestClientException e) {
@@ -64,7 +69,7 @@ public class MailServiceClient {
         try {
             String url = mailServiceUrl + "/api/mail/preview?vocEventId=" + vocEventId;
             
-            var response = restTemplate.getForObject(url, MailPreviewDto.class);
+            var response = serviceGuard.call(ExternalServiceProperties.MAIL, () -> restTemplate.getForObject(url, MailPreviewDto.class));
             return response != null ? response : new MailPreviewDto();
             
         } catch (RestClientException e) {
@@ -79,12 +84,12 @@ public class MailServiceClient {
         try {
             String url = mailServiceUrl + "/api/mail/logs/recent?limit=50";
             
-            var response = restTemplate.exchange(
+            var response = serviceGuard.call(ExternalServiceProperties.MAIL, () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
                 new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
+            ));
             
             return response.getBody() != null ? response.getBody() : Collections.emptyList();
             
@@ -99,7 +104,7 @@ public class MailServiceClient {
     public void sendMail(MailSendRequestDto request) {
         try {
             String url = mailServiceUrl + "/api/mail/send";
-            restTemplate.postForEntity(url, request, Void.class);
+            serviceGuard.run(ExternalServiceProperties.MAIL, () -> restTemplate.postForEntity(url, request, Void.class));
             
         } catch (RestClientException e) {
             // 로깅 및 예외 처리
@@ -114,12 +119,12 @@ public class MailServiceClient {
         try {
             String url = mailServiceUrl + "/api/mail/recent-previews";
             
-            var response = restTemplate.exchange(
+            var response = serviceGuard.call(ExternalServiceProperties.MAIL, () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
                 new ParameterizedTypeReference<List<MessagePreviewCache>>() {}
-            );
+            ));
             
             return response.getBody() != null ? response.getBody() : Collections.emptyList();
             
@@ -1,17 +1,38 @@
 package com.insightops.dashboard.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insightops.dashboard.config.ExternalServiceProperties;
 import com.insightops.dashboard.dto.CaseItem;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import com.insightops.dashboard.resilience.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 /**
  * 정규화 서비스와 통신하는 HTTP 클라이언트
@@ -19,13 +40,32 @@ import java.util.Map;
 @Component
 public class NormalizationServiceClient {
     
+    private static final Logger logger = LoggerFactory.getLogger(NormalizationServiceClient.class);
+    
     private final RestTemplate restTemplate;
+    private final ServiceGuard serviceGuard;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor upstreamExecutor;
+    private final ExternalServiceProperties.Paging paging;
+    
+    // 같은 범위의 VoC 목록 동시 조회 합치기 (키: 요청 URL)
+    private final SingleFlight<String, List<CaseItem>> vocListFlight;
     
     @Value("${external.normalization-service.base-url:http://localhost:8001}")
     private String normalizationServiceUrl;
     
-    public NormalizationServiceClient(RestTemplate restTemplate) {
+    public NormalizationServiceClient(@Qualifier("normalizationRestTemplate") RestTemplate restTemplate,
+                                      ServiceGuard serviceGuard,
+                                      ObjectMapper objectMapper,
+                                      @Qualifier("upstreamExecutor") ThreadPoolTaskExecutor upstreamExecutor,
+                                      ExternalServiceProperties properties,
+                                      MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.serviceGuard = serviceGuard;
+        this.objectMapper = objectMapper;
+        this.upstreamExecutor = upstreamExecutor;
+        this.paging = properties.get(ExternalServiceProperties.NORMALIZATION).getPaging();
+        this.vocListFlight = new SingleFlight<>("normalization.voc-list", meterRegistry);
     }
     
     /**
@@ -33,27 +73,22 @@ public class NormalizationServiceClient {
      * client_gender: "여자", "남자"
      * client_age: "20", "30", "40" (s 제거)
      * analysis_result: summary 대신 analysis_result 필드 사용
+     * 같은 범위를 동시에 요청하면 한 번만 호출하고 결과 목록을 공유함 (반환 목록 수정 금지)
      */
     public List<CaseItem> getVocEventsWithSummary(Instant from, Instant to, Long smallCategoryId, int page, int size) {
         try {
-            String url = normalizationServiceUrl + "/api/normalized/voc-list" +
-                "?from=" + from.toString() +
-                "&to=" + to.toString() +
-                "&page=" + page +
-                "&size=" + size;
-            
-            if (smallCategoryId != null) {
-                url += "&smallCategoryId=" + smallCategoryId;
-            }
-            
-            var response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<CaseItem>>() {}
-            );
+            String url = buildVocListUrl(from, to, smallCategoryId, page, size);
             
-            return response.getBody() != null ? response.getBody() : Collections.emptyList();
+            return vocListFlight.execute(url, () -> {
+                var response = serviceGuard.call(ExternalServiceProperties.NORMALIZATION, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<CaseItem>>() {}
+                ));
+                
+                return response.getBody() != null ? response.getBody() : Collections.<CaseItem>emptyList();
+            });
             
         } catch (RestClientException e) {
             // 외부 서비스 장애 시 빈 목록 반환 (Circuit Breaker 패턴)
@@ -61,13 +96,147 @@ public class NormalizationServiceClient {
         }
     }
     
+    /**
+     * 기간 내 VoC 전체를 페이지 단위로 나눠 조회하고 페이지 순서대로 sink에 전달 (집계용)
+     * prefetchWindow개 페이지를 upstream 풀에서 동시에 받아두고, 앞 페이지부터 전달하면서 다음 페이지를 요청
+     * pageSize보다 적은 페이지가 오면 마지막으로 보고 중단 (단일 대형 페이지로 잘리는 문제 방지)
+     * 응답 JSON은 토큰 단위로 파싱하며 analysisResult 같은 긴 필드는 읽지 않고 건너뜀
+     * 중간 페이지 조회가 실패하면 예외를 던짐 - 그때까지 sink에 전달된 건수는 일부이므로 호출 측은 결과를 버려야 함
+     *
+     * @return sink에 전달한 건수
+     * @throws RestClientException 페이지 조회 실패 시
+     */
+    public int streamAllVocEvents(Instant from, Instant to, Long smallCategoryId, Consumer<CaseItem> sink) {
+        int pageSize = Math.max(1, paging.getPageSize());
+        int window = Math.max(1, paging.getPrefetchWindow());
+        int maxPages = Math.max(1, paging.getMaxPages());
+        
+        Deque<CompletableFuture<List<CaseItem>>> inFlight = new ArrayDeque<>(window);
+        int nextPage = 1;
+        while (nextPage <= Math.min(window, maxPages)) {
+            inFlight.add(fetchPageAsync(from, to, smallCategoryId, nextPage++, pageSize));
+        }
+        
+        int delivered = 0;
+        int page = 0;
+        try {
+            while (!inFlight.isEmpty()) {
+                page++;
+                List<CaseItem> items = inFlight.poll().join();
+                items.forEach(sink);
+                delivered += items.size();
+                
+                if (items.size() < pageSize) {
+                    break;
+                }
+                if (nextPage <= maxPages) {
+                    inFlight.add(fetchPageAsync(from, to, smallCategoryId, nextPage++, pageSize));
+                } else if (inFlight.isEmpty()) {
+                    logger.warn("VoC 목록 페이지 상한({}) 도달 - {}건까지만 집계", maxPages, delivered);
+                }
+            }
+        } catch (CompletionException e) {
+            logger.warn("VoC 목록 {}페이지 조회 실패 ({}건 전달 후 중단): {}", page, delivered, e.getCause().getMessage());
+            if (e.getCause() instanceof RestClientException cause) {
+                throw cause;
+            }
+            throw new RestClientException("VoC 목록 " + page + "페이지 조회 실패", e.getCause());
+        } finally {
+            // 마지막 페이지 이후 미리 요청한 페이지는 결과만 버림
+            inFlight.forEach(future -> future.cancel(false));
+        }
+        return delivered;
+    }
+    
+    private CompletableFuture<List<CaseItem>> fetchPageAsync(Instant from, Instant to, Long smallCategoryId,
+                                                             int page, int size) {
+        String url = buildVocListUrl(from, to, smallCategoryId, page, size);
+        try {
+            return CompletableFuture.supplyAsync(() -> fetchPage(url), upstreamExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀 포화 시 호출 스레드에서 직접 조회
+            return CompletableFuture.supplyAsync(() -> fetchPage(url), Runnable::run);
+        }
+    }
+    
+    private List<CaseItem> fetchPage(String url) {
+        List<CaseItem> items = new ArrayList<>();
+        serviceGuard.call(ExternalServiceProperties.NORMALIZATION, () -> restTemplate.execute(
+            url,
+            HttpMethod.GET,
+            request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+            response -> parseVocEvents(response.getBody(), items::add)
+        ));
+        return items;
+    }
+    
+    private int parseVocEvents(InputStream body, Consumer<CaseItem> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return 0;
+            }
+            
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                sink.accept(readCaseItemWithoutAnalysis(parser));
+                count++;
+            }
+            return count;
+        }
+    }
+    
+    /**
+     * 객체 하나를 CaseItem으로 읽음 (analysisResult 및 알 수 없는 필드는 값을 만들지 않고 건너뜀)
+     */
+    private CaseItem readCaseItemWithoutAnalysis(JsonParser parser) throws IOException {
+        Long vocEventId = null;
+        String sourceId = null;
+        String consultingDate = null;
+        String bigCategoryName = null;
+        String consultingCategoryName = null;
+        String clientAge = null;
+        String clientGender = null;
+        
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            
+            switch (field) {
+                case "vocEventId" -> vocEventId = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                case "sourceId" -> sourceId = parser.getValueAsString();
+                case "consultingDate" -> consultingDate = parser.getValueAsString();
+                case "bigCategoryName" -> bigCategoryName = parser.getValueAsString();
+                case "consultingCategoryName" -> consultingCategoryName = parser.getValueAsString();
+                case "clientAge" -> clientAge = parser.getValueAsString();
+                case "clientGender" -> clientGender = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        
+        return new CaseItem(vocEventId, sourceId, consultingDate, bigCategoryName,
+            consultingCategoryName, clientAge, clientGender, null);
+    }
+    
+    private String buildVocListUrl(Instant from, Instant to, Long smallCategoryId, int page, int size) {
+        String url = normalizationServiceUrl + "/api/normalized/voc-list" +
+            "?from=" + from.toString() +
+            "&to=" + to.toString() +
+            "&page=" + page +
+            "&size=" + size;
+        
+        if (smallCategoryId != null) {
+            url += "&smallCategoryId=" + smallCategoryId;
+        }
+        return url;
+    }
+    
     /**
      * 특정 VoC 이벤트의 분석 결과를 가져옴 (summary 대신 analysis_result)
      */
     public String getVocAnalysisResult(Long vocEventId) {
         try {
             String url = normalizationServiceUrl + "/api/normalized/voc-detail/" + vocEventId;
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            Map<String, Object> response = serviceGuard.call(ExternalServiceProperties.NORMALIZATION, () -> restTemplate.getForObject(url, Map.class));
             
             if (response != null && response.get("analysis_result") != null) {
                 return response.get("analysis_result").toString();
@@ -89,7 +258,7 @@ public class NormalizationServiceClient {
                 "&startDate=" + startDate +
                 "&endDate=" + endDate;
             
-            return restTemplate.getForObject(url, Map.class);
+            return serviceGuard.call(ExternalServiceProperties.NORMALIZATION, () -> restTemplate.getForObject(url, Map.class));
         } catch (RestClientException e) {
             return Collections.emptyMap();
         }
@@ -0,0 +1,155 @@
+package com.insightops.dashboard.client;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.DeadlineExceededException;
+import com.insightops.dashboard.resilience.RequestDeadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * VoC 건수 요약 묶음 조회기
+ * 시계열의 모든 버킷 요청을 모아 벌크 API로 최소 횟수만 호출하고,
+ * 벌크 API가 없거나(404/405) 벌크 호출이 5xx/연결 오류로 실패하면 제한된 동시성으로 단건 API를 병렬 호출
+ */
+@Component
+public class VoicebotCountBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoicebotCountBatcher.class);
+
+    private final VoicebotServiceClient voicebotClient;
+    private final ThreadPoolTaskExecutor upstreamExecutor;
+    private final ExternalServiceProperties.Batch batchProperties;
+
+    // 벌크 API 미지원 판정 시각 (0이면 지원으로 간주)
+    private volatile long bulkUnsupportedAt = 0L;
+
+    public VoicebotCountBatcher(VoicebotServiceClient voicebotClient,
+                                @Qualifier("upstreamExecutor") ThreadPoolTaskExecutor upstreamExecutor,
+                                ExternalServiceProperties properties) {
+        this.voicebotClient = voicebotClient;
+        this.upstreamExecutor = upstreamExecutor;
+        this.batchProperties = properties.get(ExternalServiceProperties.VOICEBOT).getBatch();
+    }
+
+    /**
+     * 묶음 조회 결과 - 건수(요청 순서)와 이번 조회에서 채우지 못한 버킷 수
+     *
+     * @param values   버킷별 currentCount (실패/생략한 버킷은 0)
+     * @param failed   호출 실패로 0이 된 버킷 수
+     * @param timedOut 요청 마감으로 호출하지 않았거나 중단된 버킷 수
+     */
+    public record Counts(long[] values, int failed, int timedOut) {
+    }
+
+    /**
+     * 요청 목록의 currentCount를 요청 순서대로 반환 (실패한 항목은 0, 실패/마감 버킷 수를 함께 반환)
+     */
+    public Counts fetchCurrentCounts(List<Map<String, Object>> requests) {
+        if (requests.isEmpty()) {
+            return new Counts(new long[0], 0, 0);
+        }
+
+        // 요청 마감이 지났으면 호출하지 않고 모두 0 (단건 호출 경로와 같은 처리)
+        if (RequestDeadline.checkExpired()) {
+            return new Counts(new long[requests.size()], 0, requests.size());
+        }
+
+        if (isBulkAvailable()) {
+            try {
+                return fetchInBulk(requests);
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode() != HttpStatus.NOT_FOUND && e.getStatusCode() != HttpStatus.METHOD_NOT_ALLOWED) {
+                    throw e;
+                }
+                bulkUnsupportedAt = System.currentTimeMillis();
+                logger.info("Voicebot 벌크 count-summary 미지원 ({}) - 단건 병렬 호출로 전환", e.getStatusCode());
+            } catch (RestClientException e) {
+                // 5xx/연결 실패는 이번 요청만 단건 호출로 대체 (벌크 미지원으로 기록하지 않음)
+                logger.warn("Voicebot 벌크 count-summary 실패 - 단건 병렬 호출로 대체: {}", e.getMessage());
+            }
+        }
+        return fetchInParallel(requests);
+    }
+
+    private boolean isBulkAvailable() {
+        long unsupportedAt = bulkUnsupportedAt;
+        return unsupportedAt == 0L
+            || System.currentTimeMillis() - unsupportedAt >= batchProperties.getBulkRecheckInterval().toMillis();
+    }
+
+    /**
+     * 벌크 API로 maxSize 단위 묶음 호출
+     */
+    private Counts fetchInBulk(List<Map<String, Object>> requests) {
+        long[] counts = new long[requests.size()];
+        int failed = 0;
+        int chunkSize = Math.max(1, batchProperties.getMaxSize());
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests.size());
+            List<VocCountSummary> results = voicebotClient.getVocCountSummaries(requests.subList(from, to));
+
+            for (int i = 0; i < results.size() && from + i < to; i++) {
+                counts[from + i] = results.get(i).currentCount();
+            }
+            // 응답 항목이 요청보다 적으면 빠진 버킷은 실패로 집계
+            failed += Math.max(0, to - from - results.size());
+        }
+        bulkUnsupportedAt = 0L;
+        return new Counts(counts, failed, 0);
+    }
+
+    /**
+     * 단건 API 병렬 호출 - 요청을 fallbackConcurrency개 그룹으로 나눠 그룹별로 순차 처리
+     */
+    private Counts fetchInParallel(List<Map<String, Object>> requests) {
+        long[] counts = new long[requests.size()];
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        int lanes = Math.max(1, Math.min(batchProperties.getFallbackConcurrency(), requests.size()));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            final int start = lane;
+            Runnable laneTask = () -> {
+                for (int i = start; i < requests.size(); i += lanes) {
+                    // 요청 마감이 지나면 남은 버킷은 0으로 두고 중단
+                    if (RequestDeadline.checkExpired()) {
+                        timedOut.addAndGet((requests.size() - 1 - i) / lanes + 1);
+                        break;
+                    }
+                    try {
+                        counts[i] = voicebotClient.fetchVocCountSummary(requests.get(i)).currentCount();
+                    } catch (DeadlineExceededException e) {
+                        timedOut.incrementAndGet();
+                    } catch (RestClientException e) {
+                        logger.warn("건수 조회 실패 ({}): {}", requests.get(i).get("date"), e.getMessage());
+                        failed.incrementAndGet();
+                    }
+                }
+            };
+            try {
+                futures.add(CompletableFuture.runAsync(laneTask, upstreamExecutor));
+            } catch (RejectedExecutionException e) {
+                // 풀 포화 시 호출 스레드에서 직접 실행
+                futures.add(CompletableFuture.runAsync(laneTask, Runnable::run));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+        return new Counts(counts, failed.get(), timedOut.get());
+    }
+}
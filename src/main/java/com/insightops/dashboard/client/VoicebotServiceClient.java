@@ -1,34 +1,74 @@
 package com.insightops.dashboard.client;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import com.insightops.dashboard.dto.CategoryAggregationRow;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.Hedger;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import com.insightops.dashboard.resilience.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Voicebot 서비스와 통신하는 HTTP 클라이언트
  * voicebot.voc_raw 테이블에서 집계 데이터를 가져옴
+ * 건수/집계 응답은 Map을 거치지 않고 JSON 토큰에서 바로 타입 레코드의 primitive 필드로 읽음
  */
 @Component
 public class VoicebotServiceClient {
     
     private final RestTemplate restTemplate;
+    private final ServiceGuard serviceGuard;
+    private final JsonFactory jsonFactory;
+    
+    // 동일 요청 동시 호출 합치기 (여러 탭에서 같은 요약을 동시에 요청하는 경우)
+    private final SingleFlight<Map<String, Object>, VocCountSummary> countSummaryFlight;
+    private final SingleFlight<List<Map<String, Object>>, List<VocCountSummary>> countSummaryBatchFlight;
+    
+    // count-summary 꼬리 지연 대응 헤지 요청 (external.voicebot-service.hedge)
+    private final Hedger countSummaryHedger;
     
     @Value("${external.voicebot-service.base-url:http://localhost:8002}")
     private String voicebotServiceUrl;
     
-    public VoicebotServiceClient(RestTemplate restTemplate) {
+    public VoicebotServiceClient(@Qualifier("voicebotRestTemplate") RestTemplate restTemplate,
+                                 ServiceGuard serviceGuard,
+                                 ExternalServiceProperties properties,
+                                 @Qualifier("hedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.serviceGuard = serviceGuard;
+        this.jsonFactory = objectMapper.getFactory();
+        this.countSummaryFlight = new SingleFlight<>("voicebot.count-summary", meterRegistry);
+        this.countSummaryBatchFlight = new SingleFlight<>("voicebot.count-summary.batch", meterRegistry);
+        this.countSummaryHedger = new Hedger("voicebot.count-summary",
+            properties.get(ExternalServiceProperties.VOICEBOT).getHedge(), hedgeExecutor, meterRegistry);
     }
     
     /**
@@ -41,7 +81,7 @@ public class VoicebotServiceClient {
                 "&from=" + from.toString() +
                 "&to=" + to.toString();
             
-            return restTemplate.getForObject(url, Map.class);
+            return serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.getForObject(url, Map.class));
         } catch (RestClientException e) {
             return Collections.emptyMap();
         }
@@ -50,44 +90,31 @@ public class VoicebotServiceClient {
     /**
      * 카테고리별 집계 데이터 조회
      */
-    public List<Map<String, Object>> getCategoryAggregation(String granularity, LocalDate from, LocalDate to) {
-        try {
-            String url = voicebotServiceUrl + "/api/aggregations/category" +
-                "?granularity=" + granularity +
-                "&from=" + from.toString() +
-                "&to=" + to.toString();
-            
-            var response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
-            
-            return response.getBody() != null ? response.getBody() : Collections.emptyList();
-        } catch (RestClientException e) {
-            return Collections.emptyList();
-        }
+    public List<CategoryAggregationRow> getCategoryAggregation(String granularity, LocalDate from, LocalDate to) {
+        return getAggregationRows("/api/aggregations/category", granularity, from, to);
     }
     
     /**
      * 카테고리+연령+성별별 집계 데이터 조회
      */
-    public List<Map<String, Object>> getCategoryAgeGenderAggregation(String granularity, LocalDate from, LocalDate to) {
+    public List<CategoryAggregationRow> getCategoryAgeGenderAggregation(String granularity, LocalDate from, LocalDate to) {
+        return getAggregationRows("/api/aggregations/category-age-gender", granularity, from, to);
+    }
+    
+    private List<CategoryAggregationRow> getAggregationRows(String path, String granularity, LocalDate from, LocalDate to) {
         try {
-            String url = voicebotServiceUrl + "/api/aggregations/category-age-gender" +
+            String url = voicebotServiceUrl + path +
                 "?granularity=" + granularity +
                 "&from=" + from.toString() +
                 "&to=" + to.toString();
             
-            var response = restTemplate.exchange(
+            List<CategoryAggregationRow> rows = serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.execute(
                 url,
                 HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
-            
-            return response.getBody() != null ? response.getBody() : Collections.emptyList();
+                request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                response -> decodeAggregationRows(response.getBody())
+            ));
+            return rows != null ? rows : Collections.emptyList();
         } catch (RestClientException e) {
             return Collections.emptyList();
         }
@@ -104,12 +131,12 @@ public class VoicebotServiceClient {
                 "&page=" + page +
                 "&size=" + size;
             
-            var response = restTemplate.exchange(
+            var response = serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
                 new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
+            ));
             
             return response.getBody() != null ? response.getBody() : Collections.emptyList();
         } catch (RestClientException e) {
@@ -119,20 +146,202 @@ public class VoicebotServiceClient {
     
     /**
      * VoC 건수 요약 조회 (새로운 API)
+     * 같은 요청이 동시에 들어오면 한 번만 호출하고 결과를 공유함 (반환값 수정 금지)
+     * 헤지 설정 시 응답이 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답 사용 (조회 전용이라 안전)
+     * 호출 실패 시 UNAVAILABLE 반환
      */
-    public Map<String, Object> getVocCountSummary(Map<String, Object> request) {
+    public VocCountSummary getVocCountSummary(Map<String, Object> request) {
         try {
-            String url = voicebotServiceUrl + "/api/voc/count-summary";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
-            
-            return restTemplate.postForObject(url, entity, Map.class);
+            return fetchVocCountSummary(request);
         } catch (RestClientException e) {
             System.err.println("VoC count summary API 호출 실패: " + e.getMessage());
-            return Collections.emptyMap();
+            return VocCountSummary.UNAVAILABLE;
+        }
+    }
+    
+    /**
+     * VoC 건수 요약 조회 - 호출 실패(RestClientException)를 그대로 던짐 (재시도 실행기에서 호출)
+     */
+    public VocCountSummary fetchVocCountSummary(Map<String, Object> request) {
+        String url = voicebotServiceUrl + "/api/voc/count-summary";
+        
+        VocCountSummary summary = countSummaryFlight.execute(normalize(request), () -> countSummaryHedger.call(
+            () -> serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.execute(
+                url,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(jsonEntity(request)),
+                response -> decodeCountSummaryResponse(response.getBody())
+            ))));
+        return summary != null ? summary : VocCountSummary.UNAVAILABLE;
+    }
+    
+    /**
+     * VoC 건수 요약 다건 조회 (벌크 API)
+     * 응답의 data 배열은 요청 순서와 동일하며 각 원소는 단건 API의 data와 같은 형태 (반환 목록도 요청 순서)
+     * 벌크 API가 없는 경우 발생하는 HttpClientErrorException(404/405)은 호출자가 처리
+     * 같은 요청 목록이 동시에 들어오면 한 번만 호출함
+     */
+    public List<VocCountSummary> getVocCountSummaries(List<Map<String, Object>> requests) {
+        String url = voicebotServiceUrl + "/api/voc/count-summary/batch";
+        HttpEntity<Map<String, Object>> entity = jsonEntity(Map.of("requests", requests));
+        
+        List<Map<String, Object>> key = requests.stream().map(this::normalize).toList();
+        return countSummaryBatchFlight.execute(key, () -> {
+            List<VocCountSummary> summaries = serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.execute(
+                url,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(entity),
+                response -> decodeCountSummaryBatchResponse(response.getBody())
+            ));
+            return summaries != null ? summaries : Collections.<VocCountSummary>emptyList();
+        });
+    }
+    
+    private HttpEntity<Map<String, Object>> jsonEntity(Map<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        return new HttpEntity<>(body, headers);
+    }
+    
+    /**
+     * single-flight 키용 요청 정규화 (필드 순서 무관하게 같은 요청이면 같은 키)
+     */
+    private Map<String, Object> normalize(Map<String, Object> request) {
+        return new TreeMap<>(request);
+    }
+    
+    // ========== 응답 디코딩 (JsonParser 토큰 단위, 모르는 필드는 값을 만들지 않고 건너뜀) ==========
+    
+    /**
+     * {"success": ..., "data": {"currentCount": n, "previousCount": n, ...}}
+     */
+    private VocCountSummary decodeCountSummaryResponse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return VocCountSummary.UNAVAILABLE;
+            }
+            VocCountSummary summary = VocCountSummary.UNAVAILABLE;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    summary = readCountSummary(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return summary;
+        }
+    }
+    
+    /**
+     * {"data": [{...}, {...}]} - 배열 원소가 객체가 아니면 UNAVAILABLE로 채워 순서를 유지
+     */
+    private List<VocCountSummary> decodeCountSummaryBatchResponse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            List<VocCountSummary> summaries = new ArrayList<>();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return summaries;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonToken element;
+                    while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (element == JsonToken.START_OBJECT) {
+                            summaries.add(readCountSummary(parser));
+                        } else {
+                            parser.skipChildren();
+                            summaries.add(VocCountSummary.UNAVAILABLE);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return summaries;
+        }
+    }
+    
+    /**
+     * START_OBJECT 다음 위치에서 건수 객체 하나를 읽음
+     */
+    private VocCountSummary readCountSummary(JsonParser parser) throws IOException {
+        long currentCount = 0L;
+        long previousCount = 0L;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "currentCount" -> currentCount = readLong(parser);
+                case "previousCount" -> previousCount = readLong(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new VocCountSummary(currentCount, previousCount, true);
+    }
+    
+    /**
+     * [{"bucket_date": "2025-09-01", "consulting_category": ..., "client_age": ..., "client_gender": ..., "count": n}]
+     * camelCase 필드명도 허용
+     * 날짜 형식이 잘못되면 다른 디코딩 오류와 같이 JsonParseException(IOException)으로 던져 호출 측 실패 처리를 탐
+     */
+    private List<CategoryAggregationRow> decodeAggregationRows(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            List<CategoryAggregationRow> rows = new ArrayList<>();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return rows;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                LocalDate bucketDate = null;
+                String category = null;
+                String age = null;
+                String gender = null;
+                long count = 0L;
+                
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    switch (field) {
+                        case "bucket_date", "bucketDate", "bucket_start", "bucketStart" ->
+                            bucketDate = value == JsonToken.VALUE_STRING ? readDate(parser) : null;
+                        case "consulting_category", "consultingCategory" -> category = parser.getValueAsString();
+                        case "client_age", "clientAge" -> age = parser.getValueAsString();
+                        case "client_gender", "clientGender" -> gender = parser.getValueAsString();
+                        case "count" -> count = readLong(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+                rows.add(new CategoryAggregationRow(bucketDate, category, age, gender, count));
+            }
+            return rows;
+        }
+    }
+    
+    private static LocalDate readDate(JsonParser parser) throws IOException {
+        String text = parser.getText();
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "잘못된 날짜 값: " + text, e);
+        }
+    }
+    
+    /**
+     * 숫자 토큰은 그대로, 숫자 문자열은 파싱, null/누락/기타는 0
+     */
+    private static long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getValueAsLong(0L);
         }
+        parser.skipChildren();
+        return 0L;
     }
     
     /**
@@ -141,7 +350,7 @@ public class VoicebotServiceClient {
     public Map<String, Object> healthCheck() {
         try {
             String url = voicebotServiceUrl + "/health";
-            return restTemplate.getForObject(url, Map.class);
+            return serviceGuard.call(ExternalServiceProperties.VOICEBOT, () -> restTemplate.getForObject(url, Map.class));
         } catch (RestClientException e) {
             System.err.println("Voicebot 서비스 health check 실패: " + e.getMessage());
             return Collections.emptyMap();
@@ -0,0 +1,113 @@
+package com.insightops.dashboard.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 조회 결과 인메모리 캐시 (Caffeine)
+ * 집계 데이터는 스케줄러 실행 시에만 바뀌므로 캐시별 크기/TTL 안에서 재사용하고, 스케줄러가 끝나면 비움
+ * 통계(recordStats)를 켜 두어 actuator가 cache.gets/cache.puts/cache.evictions 지표로 노출
+ * 미스 후 메서드 실행 시간은 dashboard.cache.load 타이머로 기록
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String BIG_CATEGORY_SHARE = "bigCategoryShare";
+    public static final String TOTAL_SERIES = "totalSeries";
+    public static final String SMALL_TRENDS = "smallTrends";
+    public static final String TOP_SMALL_CATEGORY = "topSmallCategory";
+    public static final String PERIOD_COMPARISON = "periodComparison";
+
+    public static final List<String> DASHBOARD_CACHES = List.of(
+        BIG_CATEGORY_SHARE, TOTAL_SERIES, SMALL_TRENDS, TOP_SMALL_CATEGORY, PERIOD_COMPARISON
+    );
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(
+                    String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Timer loadTimer = Timer.builder("dashboard.cache.load")
+                    .tag("cache", name)
+                    .description("캐시 미스 후 값을 계산해 저장하기까지 걸린 시간")
+                    .register(meterRegistry);
+                return new TimedCaffeineCache(name, cache, isAllowNullValues(), loadTimer);
+            }
+        };
+        // 등록하지 않은 이름으로는 캐시를 만들지 않음 (오타로 무제한 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(List.of());
+        for (String name : DASHBOARD_CACHES) {
+            String spec = properties.getSpecs().getOrDefault(name, properties.getDefaultSpec());
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * 메서드 이름 + 정규화한 파라미터로 키 생성 (문자열은 앞뒤 공백 제거 후 소문자)
+     */
+    @Bean
+    public KeyGenerator dashboardKeyGenerator() {
+        return (target, method, params) -> {
+            List<Object> key = new ArrayList<>(params.length + 1);
+            key.add(method.getName());
+            for (Object param : params) {
+                key.add(param instanceof String text ? text.trim().toLowerCase(Locale.ROOT) : param);
+            }
+            return key;
+        };
+    }
+
+    /**
+     * 미스 시각을 기록해 두었다가 같은 스레드의 put에서 계산 시간을 기록
+     * (@Cacheable은 조회 미스 -> 메서드 실행 -> put을 호출 스레드에서 순서대로 수행)
+     * unless 조건으로 저장하지 않은 결과는 기록하지 않음
+     */
+    static class TimedCaffeineCache extends CaffeineCache {
+
+        private final ThreadLocal<Long> missStartedAt = new ThreadLocal<>();
+        private final Timer loadTimer;
+
+        TimedCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                           boolean allowNullValues, Timer loadTimer) {
+            super(name, cache, allowNullValues);
+            this.loadTimer = loadTimer;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            Object value = super.lookup(key);
+            if (value == null) {
+                missStartedAt.set(System.nanoTime());
+            }
+            return value;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            Long startedAt = missStartedAt.get();
+            missStartedAt.remove();
+            if (startedAt != null) {
+                loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            super.put(key, value);
+        }
+    }
+}
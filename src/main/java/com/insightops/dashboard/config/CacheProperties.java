@@ -0,0 +1,21 @@
+package com.insightops.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 조회 캐시 설정 (application.yml의 dashboard.cache.*)
+ * 캐시별 Caffeine spec 문자열 (예: maximumSize=500,expireAfterWrite=10m)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dashboard.cache")
+public class CacheProperties {
+
+    private String defaultSpec = "maximumSize=500,expireAfterWrite=10m";   // specs에 없는 캐시에 적용
+    private Map<String, String> specs = new LinkedHashMap<>();             // 캐시 이름 -> spec
+}
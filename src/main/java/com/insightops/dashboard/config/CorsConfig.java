@@ -1,5 +1,7 @@
 package com.insightops.dashboard.config;
 
+import com.insightops.dashboard.controller.DashboardController;
+import com.insightops.dashboard.resilience.DeadlineResponseAdvice;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -25,6 +27,7 @@ public class CorsConfig {
                     )
                     .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                     .allowedHeaders("*")
+                    .exposedHeaders(DeadlineResponseAdvice.DEADLINE_EXCEEDED_HEADER, DashboardController.NEXT_CURSOR_HEADER)
                     .allowCredentials(true);
             }
         };
@@ -0,0 +1,119 @@
+package com.insightops.dashboard.config;
+
+import com.insightops.dashboard.resilience.RequestContextTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * 외부 서비스 호출용 스레드 풀 설정
+ * 블로킹 HTTP 호출이 공용 ForkJoinPool이나 요청 스레드를 점유하지 않도록 분리
+ */
+@Configuration
+@EnableConfigurationProperties(RetryProperties.class)
+public class ExecutorConfig {
+
+    /**
+     * 블로킹 외부 호출 전용 스레드 풀
+     * 큐가 가득 차면 거부하고 executor.rejected 카운터에 집계 (호출자가 기본값으로 처리)
+     * 풀 상태(active, queued, completed)는 actuator가 executor.* 지표로 노출
+     */
+    @Bean
+    public ThreadPoolTaskExecutor upstreamExecutor(
+            @Value("${dashboard.upstream-executor.core-size:16}") int coreSize,
+            @Value("${dashboard.upstream-executor.max-size:32}") int maxSize,
+            @Value("${dashboard.upstream-executor.queue-capacity:500}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upstream-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(countingRejectionHandler("upstreamExecutor", meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 헤지 요청(원 요청 + 헤지) 전용 스레드 풀
+     * 헤지 호출자는 upstreamExecutor 스레드에서 결과를 기다리므로 같은 풀을 쓰면 큐 뒤의 요청을 기다리다 풀 전체가 멈춤
+     * 큐 없이 즉시 거부하며, 거부되면 원 요청은 호출 스레드에서 실행하고 헤지는 생략
+     */
+    @Bean
+    public ThreadPoolTaskExecutor hedgeExecutor(
+            @Value("${dashboard.hedge-executor.max-size:32}") int maxSize,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.min(4, maxSize));
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("hedge-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(countingRejectionHandler("hedgeExecutor", meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 카테고리/연령대/성별 시계열 분해 조회용 스레드 풀
+     * 풀 크기가 곧 동시 실행 상한이며, 큐가 가득 차면 해당 시리즈는 REJECTED로 응답
+     */
+    @Bean
+    public ThreadPoolTaskExecutor breakdownExecutor(
+            @Value("${dashboard.breakdown.max-concurrency:8}") int maxConcurrency,
+            @Value("${dashboard.breakdown.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("breakdown-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(countingRejectionHandler("breakdownExecutor", meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 캐시 백그라운드 갱신용 스레드 풀 (stale-while-revalidate)
+     * 갱신은 키마다 하나만 진행되므로 작게 유지하고, 포화 시 거부된 갱신은 다음 조회 때 다시 시도됨
+     */
+    @Bean
+    public ThreadPoolTaskExecutor refreshExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setRejectedExecutionHandler(countingRejectionHandler("refreshExecutor", meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 거부 시 카운터를 올리고 RejectedExecutionException을 던지는 핸들러 (AbortPolicy와 동일 동작)
+     */
+    private static RejectedExecutionHandler countingRejectionHandler(String name, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("executor.rejected")
+            .tag("name", name)
+            .description("큐 포화로 거부된 작업 수")
+            .register(meterRegistry);
+        return (task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException(name + " 포화 (active=" + pool.getActiveCount()
+                + ", queued=" + pool.getQueue().size() + ")");
+        };
+    }
+}
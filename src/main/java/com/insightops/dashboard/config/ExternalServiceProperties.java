@@ -0,0 +1,132 @@
+package com.insightops.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 MSA 서비스 연동 설정 (application.yml의 external.*)
+ * 서비스별로 base-url과 HTTP 커넥션 풀 설정을 가짐
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external")
+public class ExternalServiceProperties {
+
+    public static final String VOICEBOT = "voicebot-service";
+    public static final String NORMALIZATION = "normalization-service";
+    public static final String MAIL = "mail-service";
+    public static final String ADMIN = "admin-service";
+
+    private Service voicebotService = new Service();
+    private Service normalizationService = new Service();
+    private Service mailService = new Service();
+    private Service adminService = new Service();
+    private Service dataIngestionService = new Service();
+
+    /**
+     * 서비스 이름(voicebot-service 등)으로 설정 조회
+     */
+    public Service get(String serviceName) {
+        return switch (serviceName) {
+            case VOICEBOT -> voicebotService;
+            case NORMALIZATION -> normalizationService;
+            case MAIL -> mailService;
+            case ADMIN -> adminService;
+            case "data-ingestion-service" -> dataIngestionService;
+            default -> throw new IllegalArgumentException("알 수 없는 외부 서비스: " + serviceName);
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Service {
+        private String baseUrl;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Pool pool = new Pool();
+        private Batch batch = new Batch();
+        private BreakerSettings circuitBreaker = new BreakerSettings();
+        private BulkheadSettings bulkhead = new BulkheadSettings();
+        private HedgeSettings hedge = new HedgeSettings();
+        private Paging paging = new Paging();
+    }
+
+    /**
+     * Keep-Alive 커넥션 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxTotal = 50;                                  // 서비스 전체 최대 커넥션 수
+        private int maxPerRoute = 20;                               // 호스트별 최대 커넥션 수
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2); // 풀에서 커넥션 대기 시간
+        private Duration keepAlive = Duration.ofMinutes(3);         // 서버가 Keep-Alive 헤더를 주지 않을 때 기본값
+        private Duration idleEviction = Duration.ofSeconds(60);     // 유휴 커넥션 정리 주기
+        private Duration timeToLive = Duration.ofMinutes(10);       // 커넥션 최대 수명
+        private Duration validateAfterInactivity = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 다건 조회 묶음 처리 설정 (현재 voicebot count-summary에서 사용)
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxSize = 100;                                  // 벌크 요청 1회당 최대 건수
+        private int fallbackConcurrency = 6;                        // 벌크 미지원 시 동시 단건 호출 수
+        private Duration bulkRecheckInterval = Duration.ofMinutes(10); // 벌크 미지원 판정 후 재확인 주기
+    }
+
+    /**
+     * 페이지 단위 목록 조회 설정 (현재 normalization voc-list에서 사용)
+     */
+    @Getter
+    @Setter
+    public static class Paging {
+        private int pageSize = 1000;                                // 페이지당 건수 (이보다 적게 오면 마지막 페이지)
+        private int prefetchWindow = 4;                             // 동시에 미리 요청하는 페이지 수
+        private int maxPages = 500;                                 // 안전 상한 (pageSize * maxPages 건까지 조회)
+    }
+
+    /**
+     * 서비스별 서킷 브레이커 설정
+     */
+    @Getter
+    @Setter
+    public static class BreakerSettings {
+        private int slidingWindowSize = 20;                 // 실패율 계산에 쓰는 최근 호출 수
+        private int minimumCalls = 10;                      // 실패율 판단 전 최소 호출 수
+        private int failureRateThreshold = 50;              // OPEN 전환 실패율 (%)
+        private Duration openDuration = Duration.ofSeconds(30); // OPEN 유지 시간 (이후 HALF_OPEN)
+        private int halfOpenCalls = 3;                      // HALF_OPEN에서 허용하는 시험 호출 수
+    }
+
+    /**
+     * 서비스별 동시 호출 상한 (벌크헤드)
+     */
+    @Getter
+    @Setter
+    public static class BulkheadSettings {
+        private int maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ZERO;           // 자리가 없을 때 대기 시간 (0이면 즉시 거부)
+    }
+
+    /**
+     * 헤지 요청 설정 (멱등 조회에서 응답이 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답 사용)
+     */
+    @Getter
+    @Setter
+    public static class HedgeSettings {
+        private boolean enabled = false;
+        private double percentile = 95.0;                   // 최근 지연시간의 이 백분위를 헤지 대기시간으로 사용
+        private Duration minDelay = Duration.ofMillis(20);  // 헤지 대기시간 하한
+        private Duration maxDelay = Duration.ofSeconds(2);  // 헤지 대기시간 상한
+        private int windowSize = 256;                       // 백분위 계산에 쓰는 최근 응답 수
+        private int minSamples = 50;                        // 이 수만큼 쌓이기 전에는 헤지하지 않음
+        private double maxHedgeRatio = 0.05;                // 전체 요청 대비 헤지 요청 비율 상한
+        private Duration maxWait = Duration.ofSeconds(30);  // 요청 마감이 없는 호출(스케줄러 등)의 응답 대기 상한
+    }
+}
@@ -0,0 +1,153 @@
+package com.insightops.dashboard.config;
+
+import com.insightops.dashboard.resilience.RequestDeadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 서비스별 Keep-Alive 커넥션 풀 관리
+ * 서비스마다 독립된 풀을 두고 leased/pending/available 지표를 Micrometer로 노출
+ */
+@Component
+public class HttpClientPools implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientPools.class);
+
+    private final ExternalServiceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PoolingHttpClientConnectionManager> managers = new ConcurrentHashMap<>();
+    private final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    public HttpClientPools(ExternalServiceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 서비스 전용 풀을 사용하는 RequestFactory 생성
+     * 요청 마감이 있으면 커넥션 대기/응답 타임아웃을 남은 시간 이내로 줄여서 호출
+     */
+    public HttpComponentsClientHttpRequestFactory requestFactory(String serviceName) {
+        HttpComponentsClientHttpRequestFactory factory =
+            new HttpComponentsClientHttpRequestFactory(clients.computeIfAbsent(serviceName, this::createClient));
+        ExternalServiceProperties.Service service = properties.get(serviceName);
+        factory.setHttpContextFactory((method, uri) -> deadlineContext(service));
+        return factory;
+    }
+
+    /**
+     * 마감이 없으면 null을 반환해 클라이언트 기본 RequestConfig를 사용
+     */
+    private HttpClientContext deadlineContext(ExternalServiceProperties.Service service) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return null;
+        }
+        // Timeout 0은 무제한이므로 최소 1ms
+        long remaining = Math.max(1L, deadline.remainingMillis());
+        long connectionRequest = Math.min(service.getPool().getConnectionRequestTimeout().toMillis(), remaining);
+        long response = Math.min(service.getReadTimeout().toMillis(), remaining);
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequest))
+            .setResponseTimeout(Timeout.ofMilliseconds(response))
+            .build());
+        return context;
+    }
+
+    private CloseableHttpClient createClient(String serviceName) {
+        ExternalServiceProperties.Service service = properties.get(serviceName);
+        ExternalServiceProperties.Pool pool = service.getPool();
+
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(service.getConnectTimeout()))
+                .setSocketTimeout(toTimeout(service.getReadTimeout()))
+                .setTimeToLive(toTimeValue(pool.getTimeToLive()))
+                .setValidateAfterInactivity(toTimeValue(pool.getValidateAfterInactivity()))
+                .build())
+            .build();
+        managers.put(serviceName, manager);
+        registerMetrics(serviceName, manager);
+
+        TimeValue defaultKeepAlive = toTimeValue(pool.getKeepAlive());
+        DefaultConnectionKeepAliveStrategy headerStrategy = DefaultConnectionKeepAliveStrategy.INSTANCE;
+
+        logger.info("{} 커넥션 풀 생성 - maxTotal={}, maxPerRoute={}", serviceName, pool.getMaxTotal(), pool.getMaxPerRoute());
+
+        return HttpClients.custom()
+            .setConnectionManager(manager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(pool.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(service.getReadTimeout()))
+                .build())
+            // 서버가 Keep-Alive 헤더를 보내면 그 값을, 없으면 설정값을 사용
+            .setKeepAliveStrategy((response, context) -> {
+                TimeValue fromHeader = headerStrategy.getKeepAliveDuration(response, context);
+                return response.containsHeader("Keep-Alive") ? fromHeader : defaultKeepAlive;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(toTimeValue(pool.getIdleEviction()))
+            .build();
+    }
+
+    private void registerMetrics(String serviceName, PoolingHttpClientConnectionManager manager) {
+        Gauge.builder("http.client.pool.leased", manager, m -> m.getTotalStats().getLeased())
+            .tag("service", serviceName)
+            .description("사용 중인 커넥션 수")
+            .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", manager, m -> m.getTotalStats().getPending())
+            .tag("service", serviceName)
+            .description("커넥션을 기다리는 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("http.client.pool.available", manager, m -> m.getTotalStats().getAvailable())
+            .tag("service", serviceName)
+            .description("재사용 가능한 유휴 커넥션 수")
+            .register(meterRegistry);
+        Gauge.builder("http.client.pool.max", manager, m -> m.getTotalStats().getMax())
+            .tag("service", serviceName)
+            .register(meterRegistry);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        clients.forEach((name, client) -> {
+            try {
+                client.close();
+            } catch (IOException e) {
+                logger.warn("{} HTTP 클라이언트 종료 실패: {}", name, e.getMessage());
+            }
+        });
+    }
+}
@@ -1,27 +1,35 @@
 package com.insightops.dashboard.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * 외부 서비스 호출을 위한 RestTemplate 설정
+ * 서비스마다 독립된 Keep-Alive 커넥션 풀을 사용 (external.*.pool 참고)
  */
 @Configuration
+@EnableConfigurationProperties(ExternalServiceProperties.class)
 public class RestTemplateConfig {
-    
+
+    @Bean
+    public RestTemplate voicebotRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory(ExternalServiceProperties.VOICEBOT));
+    }
+
+    @Bean
+    public RestTemplate normalizationRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory(ExternalServiceProperties.NORMALIZATION));
+    }
+
+    @Bean
+    public RestTemplate mailRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory(ExternalServiceProperties.MAIL));
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초 연결 타임아웃
-        factory.setReadTimeout(10000);   // 10초 읽기 타임아웃
-        
-        RestTemplate restTemplate = new RestTemplate(factory);
-        
-        // 에러 핸들러 추가 (선택사항)
-        // restTemplate.setErrorHandler(new CustomResponseErrorHandler());
-        
-        return restTemplate;
+    public RestTemplate adminRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory(ExternalServiceProperties.ADMIN));
     }
 }
@@ -0,0 +1,34 @@
+package com.insightops.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 서비스 호출 재시도 설정 (application.yml의 dashboard.retry.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dashboard.retry")
+public class RetryProperties {
+
+    private int maxAttempts = 3;                                // 최초 호출 포함 최대 시도 횟수
+    private Duration initialBackoff = Duration.ofMillis(200);   // 첫 재시도 대기 상한
+    private Duration maxBackoff = Duration.ofSeconds(2);        // 재시도 대기 상한
+    private double multiplier = 2.0;                            // 지수 백오프 배수
+    private Budget budget = new Budget();
+
+    /**
+     * 재시도 예산 - 재시도가 원 요청 대비 일정 비율을 넘지 않도록 제한
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+        private double ratio = 0.2;         // 최초 호출 1건당 적립되는 재시도 토큰
+        private int minPerSecond = 5;       // 호출이 적을 때도 허용하는 초당 최소 재시도 수
+        private int maxTokens = 100;        // 적립 가능한 최대 토큰
+        private int perRequest = 3;         // 인바운드 요청 1건이 쓸 수 있는 재시도 수
+    }
+}
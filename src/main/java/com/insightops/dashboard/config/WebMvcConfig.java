@@ -0,0 +1,24 @@
+package com.insightops.dashboard.config;
+
+import com.insightops.dashboard.resilience.RequestContextInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * API 요청 공통 인터셉터 설정
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RequestContextInterceptor requestContextInterceptor;
+
+    public WebMvcConfig(RequestContextInterceptor requestContextInterceptor) {
+        this.requestContextInterceptor = requestContextInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestContextInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -1,6 +1,5 @@
 package com.insightops.dashboard.controller;
 
-import com.insightops.dashboard.client.NormalizationServiceClient;
 import com.insightops.dashboard.domain.InsightCard;
 import com.insightops.dashboard.domain.MessagePreviewCache;
 import com.insightops.dashboard.dto.*;
@@ -13,10 +12,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 대시보드 컨트롤러 - 모든 대시보드 API
@@ -27,12 +24,12 @@ public class DashboardController {
     
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final DashboardService dashboardService;
-    private final NormalizationServiceClient normalizationClient;
     
-    public DashboardController(DashboardService dashboardService, NormalizationServiceClient normalizationClient) {
+    public DashboardController(DashboardService dashboardService) {
         this.dashboardService = dashboardService;
-        this.normalizationClient = normalizationClient;
     }
 
     /**
@@ -112,17 +109,34 @@ public class DashboardController {
 
     /**
      * 6. 상담 사례 목록 + 요약 조회 (로컬 데이터)
-     * GET /api/dashboard/cases?from=2024-01-01&to=2024-01-31&consultingCategory=1&page=0&size=20
+     * GET /api/dashboard/cases?from=2024-01-01&to=2024-01-31&consultingCategory=1&size=20&cursor=...
+     * 다음 페이지 커서는 X-Next-Cursor 응답 헤더로 전달 (마지막 페이지면 헤더 없음), page는 기존 호환용
      */
     @GetMapping("/cases")
     public ResponseEntity<List<CaseItem>> getCases(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(required = false) String consultingCategory,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        List<CaseItem> cases = dashboardService.getCases(from, to, consultingCategory, page, size);
-        return ResponseEntity.ok(cases);
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        CasePage cases;
+        try {
+            cases = dashboardService.getCases(from, to, consultingCategory, cursor, page, size);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.badRequest().build();
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (cases.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, cases.nextCursor());
+        }
+        return response.body(cases.items());
     }
 
     /**
@@ -327,58 +341,10 @@ public class DashboardController {
     @PostMapping("/filtered-cases")
     public ResponseEntity<Map<String, Object>> getFilteredCases(@RequestBody FilterRequest filter) {
         try {
-            // Normalization Service에서 필터링된 데이터 조회
-            List<CaseItem> cases = normalizationClient.getVocEventsWithSummary(
-                filter.startDate().atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
-                filter.endDate().plusDays(1).atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
-                null, filter.page() + 1, filter.size()
-            );
-            
-            // 필터링 적용 (서버 사이드 필터링)
-            List<CaseItem> filteredCases = applyFilters(cases, filter);
-            
-            // 결과 구성
-            Map<String, Object> result = new HashMap<>();
-            result.put("cases", filteredCases);
-            result.put("totalCount", filteredCases.size());
-            result.put("filter", filter);
-            result.put("page", filter.page());
-            result.put("size", filter.size());
-            
-            return ResponseEntity.ok(result);
-            
+            return ResponseEntity.ok(dashboardService.getFilteredCases(filter));
         } catch (Exception e) {
             logger.error("필터링된 VoC 목록 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(500).body(Map.of("error", "데이터 조회 실패"));
         }
     }
-    
-    /**
-     * 필터링 적용 (서버 사이드)
-     */
-    private List<CaseItem> applyFilters(List<CaseItem> cases, FilterRequest filter) {
-        return cases.stream()
-            .filter(caseItem -> {
-                // 카테고리 필터
-                if (filter.hasCategoryFilter() && 
-                    !filter.categories().contains(caseItem.consultingCategoryName())) {
-                    return false;
-                }
-                
-                // 연령대 필터
-                if (filter.hasAgeGroupFilter() && 
-                    !filter.ageGroups().contains(caseItem.clientAge())) {
-                    return false;
-                }
-                
-                // 성별 필터
-                if (filter.hasGenderFilter() && 
-                    !filter.genders().contains(caseItem.clientGender())) {
-                    return false;
-                }
-                
-                return true;
-            })
-            .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+}
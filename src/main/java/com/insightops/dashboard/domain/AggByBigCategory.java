@@ -0,0 +1,60 @@
+package com.insightops.dashboard.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.Instant;
+
+/**
+ * Big 카테고리 집계 테이블 (파이차트용 롤업)
+ * 스케줄러가 agg_by_category_age_gender의 일별 집계를 Big 카테고리로 묶어 day/week/month 단위로 저장
+ * week는 월요일, month는 1일을 bucketStart로 사용
+ */
+@Entity
+@Table(name = "agg_by_big_category",
+       uniqueConstraints = @UniqueConstraint(name = "uk_big_category_bucket",
+           columnNames = {"granularity", "bucket_start", "big_category"}),
+       indexes = {
+           @Index(name = "idx_big_category_bucket", columnList = "granularity,bucket_start")
+       })
+public class AggByBigCategory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 10)
+    private String granularity; // day/week/month
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+    
+    @Column(name = "big_category", length = 50, nullable = false)
+    private String bigCategory;
+    
+    @Column(nullable = false)
+    private Long count;
+    
+    @Column(name = "last_updated")
+    private Instant lastUpdated;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        lastUpdated = Instant.now();
+    }
+    
+    public Long getId() { return id; }
+    public String getGranularity() { return granularity; }
+    public LocalDate getBucketStart() { return bucketStart; }
+    public String getBigCategory() { return bigCategory; }
+    public Long getCount() { return count; }
+    public Instant getLastUpdated() { return lastUpdated; }
+    
+    public void setId(Long id) { this.id = id; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+    public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+    public void setBigCategory(String bigCategory) { this.bigCategory = bigCategory; }
+    public void setCount(Long count) { this.count = count; }
+    public void setLastUpdated(Instant lastUpdated) { this.lastUpdated = lastUpdated; }
+}
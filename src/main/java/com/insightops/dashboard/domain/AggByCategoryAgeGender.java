@@ -13,9 +13,16 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "agg_by_category_age_gender",
+       // 자연키 (upsert 기준, 연령/성별이 없는 행은 빈 문자열)
+       uniqueConstraints = @UniqueConstraint(name = "uk_cat_age_gender_key",
+           columnNames = {"granularity", "bucket_start", "consulting_category", "client_age", "client_gender"}),
        indexes = {
            @Index(name = "idx_cat_age_gender_bucket", columnList = "granularity,bucketStart"),
-           @Index(name = "idx_cat_age_gender_filter", columnList = "consultingCategory,clientAge,clientGender")
+           @Index(name = "idx_cat_age_gender_filter", columnList = "consultingCategory,clientAge,clientGender"),
+           @Index(name = "idx_cat_age_gender_updated", columnList = "last_updated"),
+           // Small 트렌드 조회 커버링 인덱스 (등치 조건 컬럼을 앞에, 기간 범위 컬럼은 뒤에 둠)
+           @Index(name = "idx_cat_age_gender_trend",
+                  columnList = "granularity,consultingCategory,clientAge,clientGender,bucketStart,count")
        })
 public class AggByCategoryAgeGender {
     
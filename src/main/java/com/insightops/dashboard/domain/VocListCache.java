@@ -18,7 +18,10 @@ import java.time.Instant;
        indexes = {
            @Index(name = "idx_voc_list_consulting_date", columnList = "consultingDate"),
            @Index(name = "idx_voc_list_category", columnList = "consultingCategory"),
-           @Index(name = "idx_voc_list_age_gender", columnList = "clientAge,clientGender")
+           @Index(name = "idx_voc_list_age_gender", columnList = "clientAge,clientGender"),
+           // 상담 사례 목록 키셋 페이지네이션 정렬 순서 (카테고리 조건이 있으면 카테고리 선두 인덱스 사용)
+           @Index(name = "idx_voc_list_date_id", columnList = "consultingDate,vocId"),
+           @Index(name = "idx_voc_list_category_date", columnList = "consultingCategory,consultingDate,vocId")
        })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,30 @@
+package com.insightops.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * VoC 리스트 캐시 적재 완료 일자 (적재 범위 워터마크)
+ * 해당 일자의 voc_list_cache 교체가 끝까지 완료된 경우에만 행이 있음
+ */
+@Entity
+@Table(name = "voc_list_cache_load")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VocListCacheLoad {
+
+    @Id
+    @Column(name = "load_date")
+    private LocalDate loadDate;
+
+    @Column(name = "loaded_at", nullable = false)
+    private Instant loadedAt;
+}
@@ -0,0 +1,40 @@
+package com.insightops.dashboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 상담 사례 목록 키셋 커서 - 이전 페이지 마지막 행의 정렬 키 (consultingDate, vocId)
+ * 두 컬럼 모두 NOT NULL이라 어떤 행에서도 커서를 만들 수 있음 (created_at은 비어 있는 행이 있어 키에서 제외)
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 전달하고 형식은 공개하지 않음
+ */
+public record CaseCursor(
+    LocalDate consultingDate,   // 상담 일자
+    String vocId                // VoC ID (동순위 구분)
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = consultingDate + SEPARATOR + vocId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (형식이 잘못되면 IllegalArgumentException)
+     */
+    public static CaseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length == 2 && !parts[1].isEmpty()) {
+                return new CaseCursor(LocalDate.parse(parts[0]), parts[1]);
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // 형식 오류는 아래에서 한 가지 예외로 처리
+        }
+        throw new IllegalArgumentException("잘못된 커서: " + cursor);
+    }
+}
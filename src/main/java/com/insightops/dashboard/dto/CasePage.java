@@ -0,0 +1,11 @@
+package com.insightops.dashboard.dto;
+
+import java.util.List;
+
+/**
+ * 상담 사례 목록 한 페이지
+ */
+public record CasePage(
+    List<CaseItem> items,       // 현재 페이지 사례
+    String nextCursor           // 다음 페이지 커서 (마지막 페이지면 null)
+) {}
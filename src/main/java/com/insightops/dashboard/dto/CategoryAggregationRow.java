@@ -0,0 +1,15 @@
+package com.insightops.dashboard.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리(+연령+성별) 집계 행 (Voicebot aggregations 응답의 원소)
+ * 카테고리 집계에는 연령/성별이 없으므로 null
+ */
+public record CategoryAggregationRow(
+    LocalDate bucketDate,       // 집계 구간 시작일
+    String consultingCategory,  // Small 카테고리
+    String clientAge,           // 연령대 (선택적)
+    String clientGender,        // 성별 (선택적)
+    long count                  // 건수 (없으면 0)
+) {}
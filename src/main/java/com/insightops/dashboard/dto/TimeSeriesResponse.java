@@ -14,28 +14,42 @@ public record TimeSeriesResponse(
     Integer currentPage,                    // 현재 페이지
     Integer pageSize,                       // 페이지 크기
     Map<String, Object> summary,            // 요약 정보
-    String period                           // 기간 단위
+    String period,                          // 기간 단위
+    String status                           // 조회 상태 (OK, PARTIAL, TIMEOUT, FAILED, REJECTED)
 ) {
-    
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_PARTIAL = "PARTIAL";   // 일부 버킷 조회 실패 (해당 버킷은 0)
+    public static final String STATUS_TIMEOUT = "TIMEOUT";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_REJECTED = "REJECTED";
+
     /**
      * 기본 생성자
      */
     public TimeSeriesResponse(List<TimeSeriesItem> data, FilterRequest filter, String period) {
-        this(data, filter, 
+        this(data, filter,
              data.stream().mapToLong(TimeSeriesItem::count).sum(),
              1, 0, data.size(),
              Map.of("totalItems", data.size()),
-             period);
+             period, STATUS_OK);
     }
-    
+
     /**
      * 페이지네이션 포함 생성자
      */
-    public TimeSeriesResponse(List<TimeSeriesItem> data, FilterRequest filter, 
-                             Long totalCount, Integer totalPages, Integer currentPage, 
+    public TimeSeriesResponse(List<TimeSeriesItem> data, FilterRequest filter,
+                             Long totalCount, Integer totalPages, Integer currentPage,
                              Integer pageSize, String period) {
         this(data, filter, totalCount, totalPages, currentPage, pageSize,
              Map.of("totalItems", data.size(), "hasNext", currentPage < totalPages - 1),
-             period);
+             period, STATUS_OK);
+    }
+
+    /**
+     * 상태만 바꾼 사본 (부분 실패 표시용)
+     */
+    public TimeSeriesResponse withStatus(String status) {
+        return new TimeSeriesResponse(data, filter, totalCount, totalPages, currentPage, pageSize, summary, period, status);
     }
 }
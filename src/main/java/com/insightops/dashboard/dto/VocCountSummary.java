@@ -0,0 +1,14 @@
+package com.insightops.dashboard.dto;
+
+/**
+ * VoC 건수 요약 (Voicebot count-summary 응답의 data)
+ * 응답에 건수 필드가 없거나 null이면 0, data 자체가 없거나 호출이 실패하면 available=false
+ */
+public record VocCountSummary(
+    long currentCount,      // 기준 기간 건수
+    long previousCount,     // 직전 기간 건수
+    boolean available       // 응답에 data가 있었는지 여부
+) {
+    
+    public static final VocCountSummary UNAVAILABLE = new VocCountSummary(0L, 0L, false);
+}
@@ -0,0 +1,69 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.AggByBigCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AggByBigCategoryRepository extends JpaRepository<AggByBigCategory, Long> {
+
+    interface ShareRow {
+        String getBigCategory();
+        Long getCnt();
+    }
+
+    /**
+     * 기간 내 Big 카테고리별 건수
+     * 기간 안에 온전히 포함되는 달은 month 행, 앞뒤 남는 날짜는 day 행으로 합산
+     * (month 구간이 없으면 monthFrom > monthTo, 뒤쪽 날짜가 없으면 tailFrom > to로 넘겨 빈 구간 처리)
+     */
+    @Query(value = """
+        SELECT agg.big_category as bigCategory, SUM(agg.count) as cnt
+        FROM agg_by_big_category agg
+        WHERE (agg.granularity = 'month' AND agg.bucket_start BETWEEN :monthFrom AND :monthTo)
+           OR (agg.granularity = 'day' AND agg.bucket_start BETWEEN :from AND :headTo)
+           OR (agg.granularity = 'day' AND agg.bucket_start BETWEEN :tailFrom AND :to)
+        GROUP BY agg.big_category
+        ORDER BY cnt DESC
+        """, nativeQuery = true)
+    List<ShareRow> findShare(@Param("from") LocalDate from,
+                             @Param("headTo") LocalDate headTo,
+                             @Param("monthFrom") LocalDate monthFrom,
+                             @Param("monthTo") LocalDate monthTo,
+                             @Param("tailFrom") LocalDate tailFrom,
+                             @Param("to") LocalDate to);
+
+    /**
+     * findShare와 같은 구간에서 롤업 행이 있는 버킷(granularity, bucket_start) 수
+     * 구간의 달/날짜 수와 같아야 롤업이 기간 전체를 덮은 것
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+            SELECT DISTINCT agg.granularity, agg.bucket_start
+            FROM agg_by_big_category agg
+            WHERE (agg.granularity = 'month' AND agg.bucket_start BETWEEN :monthFrom AND :monthTo)
+               OR (agg.granularity = 'day' AND agg.bucket_start BETWEEN :from AND :headTo)
+               OR (agg.granularity = 'day' AND agg.bucket_start BETWEEN :tailFrom AND :to)
+        ) buckets
+        """, nativeQuery = true)
+    long countCoveredBuckets(@Param("from") LocalDate from,
+                             @Param("headTo") LocalDate headTo,
+                             @Param("monthFrom") LocalDate monthFrom,
+                             @Param("monthTo") LocalDate monthTo,
+                             @Param("tailFrom") LocalDate tailFrom,
+                             @Param("to") LocalDate to);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AggByBigCategory a WHERE a.granularity = :granularity AND a.bucketStart BETWEEN :from AND :to")
+    int deleteByGranularityAndBucketStartBetween(@Param("granularity") String granularity,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+}
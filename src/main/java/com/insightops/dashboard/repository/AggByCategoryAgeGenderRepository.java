@@ -6,12 +6,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AggByCategoryAgeGenderRepository extends JpaRepository<AggByCategoryAgeGender, Long> {
+public interface AggByCategoryAgeGenderRepository extends JpaRepository<AggByCategoryAgeGender, Long>,
+                                                          AggByCategoryAgeGenderRepositoryCustom {
 
     interface TopSmallRow {
         String getSmallName();
@@ -24,6 +26,20 @@ public interface AggByCategoryAgeGenderRepository extends JpaRepository<AggByCat
         Long getCnt();
     }
 
+    interface CubeRow {
+        LocalDate getBucketStart();
+        String getConsultingCategory();
+        String getClientAge();
+        String getClientGender();
+        Long getCnt();
+    }
+
+    interface DailyCategoryRow {
+        LocalDate getBucketStart();
+        String getSmallName();
+        Long getCnt();
+    }
+
     @Query(value = """
         SELECT agg.consulting_category as smallName, SUM(agg.count) as cnt, 
                (SELECT SUM(count) FROM agg_by_category_age_gender WHERE bucket_start = :month) as totalCnt
@@ -35,21 +51,35 @@ public interface AggByCategoryAgeGenderRepository extends JpaRepository<AggByCat
         """, nativeQuery = true)
     Optional<TopSmallRow> findTopSmallOfMonth(@Param("month") LocalDate month);
 
+    /**
+     * 일별 Small 카테고리 건수 (연령/성별 합산) - Big 카테고리 롤업 원천
+     */
     @Query(value = """
-        SELECT agg.consulting_category as smallName, SUM(agg.count) as cnt
+        SELECT agg.bucket_start as bucketStart, agg.consulting_category as smallName, SUM(agg.count) as cnt
         FROM agg_by_category_age_gender agg
-        WHERE agg.granularity = :granularity 
-        AND agg.bucket_start BETWEEN :from AND :to
-        AND (:clientAge IS NULL OR agg.client_age = :clientAge)
-        AND (:clientGender IS NULL OR agg.client_gender = :clientGender)
-        GROUP BY agg.consulting_category
-        ORDER BY cnt DESC
-        LIMIT :limit
+        WHERE agg.granularity = 'day' AND agg.bucket_start BETWEEN :from AND :to
+        GROUP BY agg.bucket_start, agg.consulting_category
         """, nativeQuery = true)
-    List<SmallTrendRow> findSmallTrends(@Param("granularity") String granularity,
-                                       @Param("from") LocalDate from,
-                                       @Param("to") LocalDate to,
-                                       @Param("clientAge") String clientAge,
-                                       @Param("clientGender") String clientGender,
-                                       @Param("limit") int limit);
+    List<DailyCategoryRow> findDailyCategoryTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 일별 카테고리/연령/성별 건수 (인메모리 큐브 적재용)
+     */
+    @Query(value = """
+        SELECT agg.bucket_start as bucketStart, agg.consulting_category as consultingCategory,
+               agg.client_age as clientAge, agg.client_gender as clientGender, SUM(agg.count) as cnt
+        FROM agg_by_category_age_gender agg
+        WHERE agg.granularity = 'day' AND agg.bucket_start BETWEEN :from AND :to
+        GROUP BY agg.bucket_start, agg.consulting_category, agg.client_age, agg.client_gender
+        """, nativeQuery = true)
+    List<CubeRow> findCubeRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * since 이후 변경된 일별 집계의 날짜 목록 (큐브 증분 갱신용)
+     */
+    @Query("SELECT DISTINCT a.bucketStart FROM AggByCategoryAgeGender a WHERE a.granularity = 'day' AND a.lastUpdated >= :since")
+    List<LocalDate> findDaysUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT MAX(a.lastUpdated) FROM AggByCategoryAgeGender a")
+    Optional<Instant> findLastUpdated();
 }
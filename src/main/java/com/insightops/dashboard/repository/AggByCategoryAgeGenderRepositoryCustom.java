@@ -0,0 +1,16 @@
+package com.insightops.dashboard.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 선택 필터가 있는 agg_by_category_age_gender 조회 (값이 있는 조건만 SQL에 포함)
+ */
+public interface AggByCategoryAgeGenderRepositoryCustom {
+
+    /**
+     * 기간 내 Small 카테고리별 건수 상위 limit개 (clientAge/clientGender가 null이면 해당 조건 없음)
+     */
+    List<AggByCategoryAgeGenderRepository.SmallTrendRow> findSmallTrends(String granularity, LocalDate from, LocalDate to,
+                                                                        String clientAge, String clientGender, int limit);
+}
@@ -0,0 +1,69 @@
+package com.insightops.dashboard.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AggByCategoryAgeGenderRepositoryCustom 구현 - 필터 조합별로 필요한 조건만 붙여 SQL 생성
+ * (:x IS NULL OR col = :x) 형태는 MySQL이 인덱스 범위를 잡지 못해 기간 전체를 읽게 됨
+ * idx_cat_age_gender_trend (granularity, consulting_category, client_age, client_gender, bucket_start, count)는
+ * 등치 조건 컬럼이 기간 범위 컬럼보다 앞에 있어 조건이 붙은 컬럼까지 인덱스로 좁히고 테이블 접근 없이 합계를 계산
+ */
+class AggByCategoryAgeGenderRepositoryImpl implements AggByCategoryAgeGenderRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    AggByCategoryAgeGenderRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AggByCategoryAgeGenderRepository.SmallTrendRow> findSmallTrends(String granularity, LocalDate from,
+                                                                               LocalDate to, String clientAge,
+                                                                               String clientGender, int limit) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT agg.consulting_category AS smallName, SUM(agg.count) AS cnt
+            FROM agg_by_category_age_gender agg
+            WHERE agg.granularity = :granularity
+            AND agg.bucket_start BETWEEN :from AND :to
+            """);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("granularity", granularity)
+            .addValue("from", from)
+            .addValue("to", to)
+            .addValue("limit", limit);
+
+        if (clientAge != null) {
+            sql.append("AND agg.client_age = :clientAge\n");
+            params.addValue("clientAge", clientAge);
+        }
+        if (clientGender != null) {
+            sql.append("AND agg.client_gender = :clientGender\n");
+            params.addValue("clientGender", clientGender);
+        }
+        sql.append("""
+            GROUP BY agg.consulting_category
+            ORDER BY cnt DESC
+            LIMIT :limit
+            """);
+
+        return jdbcTemplate.query(sql.toString(), params,
+            (rs, rowNum) -> new SmallTrend(rs.getString("smallName"), rs.getLong("cnt")));
+    }
+
+    private record SmallTrend(String smallName, Long cnt) implements AggByCategoryAgeGenderRepository.SmallTrendRow {
+
+        @Override
+        public String getSmallName() {
+            return smallName;
+        }
+
+        @Override
+        public Long getCnt() {
+            return cnt;
+        }
+    }
+}
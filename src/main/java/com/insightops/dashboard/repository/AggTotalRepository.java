@@ -49,6 +49,12 @@ public interface AggTotalRepository extends JpaRepository<AggTotal, Long> {
      */
     Optional<AggTotal> findByPeriodTypeAndAggregationDate(String periodType, LocalDate aggregationDate);
     
+    /**
+     * 기간 타입의 from~to 집계 행 (집계일 오름차순)
+     */
+    List<AggTotal> findByPeriodTypeAndAggregationDateBetweenOrderByAggregationDate(String periodType,
+                                                                                  LocalDate from, LocalDate to);
+    
     // === 기존 호환성을 위한 deprecated 메서드들 ===
     
     @Deprecated
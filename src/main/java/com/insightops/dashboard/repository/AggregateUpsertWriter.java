@@ -0,0 +1,116 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.AggByCategoryAgeGender;
+import com.insightops.dashboard.domain.AggTotal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 집계 테이블(agg_total, agg_by_category_age_gender) 자연키 기준 일괄 upsert
+ * 조회 후 save 대신 JDBC 배치 한 번으로 쓰므로 같은 기간을 다시 집계해도 중복 없이 빠르게 덮어씀
+ * MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, 그 외(H2 로컬)는 MERGE INTO ... KEY 사용
+ * 호출 측 트랜잭션에 참여함
+ */
+@Repository
+public class AggregateUpsertWriter {
+
+    private static final String TOTAL_COLUMNS =
+        "agg_total (period_type, aggregation_date, total_count, prev_count, last_updated)";
+
+    private static final String MYSQL_TOTAL_SQL =
+        "INSERT INTO " + TOTAL_COLUMNS + " VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE total_count = VALUES(total_count), prev_count = VALUES(prev_count), " +
+        "last_updated = VALUES(last_updated)";
+
+    private static final String MERGE_TOTAL_SQL =
+        "MERGE INTO " + TOTAL_COLUMNS + " KEY (period_type, aggregation_date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String CATEGORY_COLUMNS =
+        "agg_by_category_age_gender (granularity, bucket_start, consulting_category, client_age, client_gender, " +
+        "count, last_updated)";
+
+    private static final String MYSQL_CATEGORY_SQL =
+        "INSERT INTO " + CATEGORY_COLUMNS + " VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE count = VALUES(count), last_updated = VALUES(last_updated)";
+
+    private static final String MERGE_CATEGORY_SQL =
+        "MERGE INTO " + CATEGORY_COLUMNS +
+        " KEY (granularity, bucket_start, consulting_category, client_age, client_gender) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // hibernate.jdbc.time_zone(UTC)과 같은 기준으로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private volatile Boolean mysql;
+
+    public AggregateUpsertWriter(JdbcTemplate jdbcTemplate,
+                                 @Value("${dashboard.aggregate-upsert.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void upsertTotals(List<AggTotal> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.batchUpdate(isMySql() ? MYSQL_TOTAL_SQL : MERGE_TOTAL_SQL, rows, batchSize, (ps, row) -> {
+            ps.setString(1, row.getPeriodType());
+            ps.setDate(2, Date.valueOf(row.getAggregationDate()));
+            ps.setLong(3, row.getTotalCount());
+            ps.setObject(4, row.getPrevCount());
+            ps.setTimestamp(5, now, utc);
+        });
+    }
+
+    /**
+     * 연령/성별이 없는 행(카테고리 단위 집계)은 빈 문자열로 저장
+     * NULL은 유니크 키에서 서로 다른 값으로 취급되어 upsert가 기존 행을 찾지 못함
+     */
+    public void upsertCategoryRows(List<AggByCategoryAgeGender> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.batchUpdate(isMySql() ? MYSQL_CATEGORY_SQL : MERGE_CATEGORY_SQL, rows, batchSize, (ps, row) -> {
+            ps.setString(1, row.getGranularity());
+            ps.setDate(2, Date.valueOf(row.getBucketStart()));
+            ps.setString(3, row.getConsultingCategory());
+            ps.setString(4, row.getClientAge() != null ? row.getClientAge() : "");
+            ps.setString(5, row.getClientGender() != null ? row.getClientGender() : "");
+            ps.setLong(6, row.getCount());
+            ps.setTimestamp(7, now, utc);
+        });
+    }
+
+    private boolean isMySql() {
+        Boolean detected = mysql;
+        if (detected == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+                detected = product != null
+                    && (product.toLowerCase().contains("mysql") || product.toLowerCase().contains("mariadb"));
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException("DB 종류 확인 실패: " + e.getMessage(), e);
+            }
+            mysql = detected;
+        }
+        return detected;
+    }
+}
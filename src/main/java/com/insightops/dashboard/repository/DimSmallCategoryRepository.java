@@ -2,8 +2,10 @@ package com.insightops.dashboard.repository;
 
 import com.insightops.dashboard.domain.DimSmallCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +13,8 @@ public interface DimSmallCategoryRepository extends JpaRepository<DimSmallCatego
     
     Optional<DimSmallCategory> findByCode(String code);
     Optional<DimSmallCategory> findByName(String name);
+    
+    @Query("SELECT s FROM DimSmallCategory s JOIN FETCH s.bigCategory")
+    List<DimSmallCategory> findAllWithBigCategory();
 }
 
@@ -0,0 +1,133 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.VocListCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * voc_list_cache 기간 단위 일괄 교체 (JPA 대신 JDBC 배치)
+ * 기간 DELETE와 INSERT 배치를 각각 제한된 크기의 별도 트랜잭션으로 실행해 락/언두 로그가 커지지 않도록 함
+ * 교체 도중에는 해당 기간 일부만 보일 수 있으므로, 교체 시작 시 기간의 적재 완료 표시(voc_list_cache_load)를 지우고
+ * 모든 행을 저장한 뒤에 다시 기록함 (조회 측은 이 표시로 기간 전체가 적재됐는지 판단)
+ * MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 배치가 다중 행 INSERT로 전송됨
+ */
+@Repository
+public class VocListCacheBulkWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(VocListCacheBulkWriter.class);
+
+    private static final String DELETE_RANGE_SQL =
+        "DELETE FROM voc_list_cache WHERE consulting_date BETWEEN ? AND ? LIMIT ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO voc_list_cache (voc_id, consulting_date, consulting_category, client_age, client_gender, " +
+        "source_system, summary_text, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_LOADED_SQL =
+        "DELETE FROM voc_list_cache_load WHERE load_date BETWEEN ? AND ?";
+
+    private static final String INSERT_LOADED_SQL =
+        "INSERT INTO voc_list_cache_load (load_date, loaded_at) VALUES (?, ?)";
+
+    // hibernate.jdbc.time_zone(UTC)과 같은 기준으로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int transactionRows;
+
+    public VocListCacheBulkWriter(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${dashboard.voc-list-cache.batch-size:1000}") int batchSize,
+                                  @Value("${dashboard.voc-list-cache.transaction-rows:10000}") int transactionRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출 측 트랜잭션과 분리해 건별로 커밋
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+        this.transactionRows = Math.max(this.batchSize, transactionRows);
+    }
+
+    /**
+     * from~to 기간의 캐시 행을 rows로 교체
+     *
+     * @return 저장한 행 수
+     */
+    public int replaceRange(LocalDate from, LocalDate to, List<VocListCache> rows) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update(DELETE_LOADED_SQL, Date.valueOf(from), Date.valueOf(to)));
+        int deleted = deleteRange(from, to);
+
+        Instant now = Instant.now();
+        int inserted = 0;
+        for (int offset = 0; offset < rows.size(); offset += transactionRows) {
+            List<VocListCache> chunk = rows.subList(offset, Math.min(offset + transactionRows, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> insert(chunk, now));
+            inserted += chunk.size();
+        }
+        transactionTemplate.executeWithoutResult(status -> markLoaded(from, to, now));
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        logger.info("VoC 리스트 캐시 교체 {} ~ {}: 삭제 {}행, 저장 {}행, {}ms ({}행/초)",
+            from, to, deleted, inserted, elapsedMs, inserted * 1000L / elapsedMs);
+        return inserted;
+    }
+
+    /**
+     * 기간 삭제 - transactionRows개씩 나눠 커밋
+     */
+    private int deleteRange(LocalDate from, LocalDate to) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                jdbcTemplate.update(DELETE_RANGE_SQL, Date.valueOf(from), Date.valueOf(to), transactionRows));
+            total += deleted;
+        } while (deleted == transactionRows);
+        return total;
+    }
+
+    /**
+     * from~to 각 일자를 적재 완료로 기록 (동시 교체가 남긴 표시는 지우고 다시 기록)
+     */
+    private void markLoaded(LocalDate from, LocalDate to, Instant now) {
+        jdbcTemplate.update(DELETE_LOADED_SQL, Date.valueOf(from), Date.valueOf(to));
+        List<LocalDate> days = from.datesUntil(to.plusDays(1)).toList();
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.batchUpdate(INSERT_LOADED_SQL, days, batchSize, (ps, day) -> {
+            ps.setDate(1, Date.valueOf(day));
+            ps.setTimestamp(2, Timestamp.from(now), utc);
+        });
+    }
+
+    private void insert(List<VocListCache> chunk, Instant now) {
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunk, batchSize, (ps, row) -> {
+            ps.setString(1, row.getVocId());
+            ps.setDate(2, Date.valueOf(row.getConsultingDate()));
+            ps.setString(3, row.getConsultingCategory());
+            ps.setString(4, row.getClientAge());
+            ps.setString(5, row.getClientGender());
+            ps.setString(6, row.getSourceSystem());
+            ps.setString(7, row.getSummaryText());
+            ps.setTimestamp(8, Timestamp.from(row.getCreatedAt() != null ? row.getCreatedAt() : now), utc);
+            ps.setTimestamp(9, Timestamp.from(now), utc);
+        });
+    }
+}
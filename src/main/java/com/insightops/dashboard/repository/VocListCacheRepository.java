@@ -1,66 +1,25 @@
 package com.insightops.dashboard.repository;
 
 import com.insightops.dashboard.domain.VocListCache;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.util.List;
 
+/**
+ * 목록 조회는 VocListCacheSpecs, 카테고리/연령대 통계는 VocListCacheRepositoryImpl에서 걸린 조건만으로 SQL 생성
+ */
 @Repository
-public interface VocListCacheRepository extends JpaRepository<VocListCache, String> {
+public interface VocListCacheRepository extends JpaRepository<VocListCache, String>,
+                                                JpaSpecificationExecutor<VocListCache>,
+                                                VocListCacheRepositoryCustom {
     
     /**
-     * VoC 리스트 조회 (필터링 + 페이징)
+     * 날짜 범위 중 적재가 완료된 일수 (로컬 조회 가능 여부 판단 - 범위의 일수와 같아야 전체 적재)
      */
-    @Query("SELECT v FROM VocListCache v WHERE " +
-           "(:from IS NULL OR v.consultingDate >= :from) AND " +
-           "(:to IS NULL OR v.consultingDate <= :to) AND " +
-           "(:category IS NULL OR v.consultingCategory = :category) AND " +
-           "(:age IS NULL OR v.clientAge = :age) AND " +
-           "(:gender IS NULL OR v.clientGender = :gender) " +
-           "ORDER BY v.consultingDate DESC, v.createdAt DESC")
-    Page<VocListCache> findVocListWithFilters(
-        @Param("from") LocalDate from,
-        @Param("to") LocalDate to,
-        @Param("category") String category,
-        @Param("age") String age,
-        @Param("gender") String gender,
-        Pageable pageable
-    );
-    
-    /**
-     * 카테고리별 통계
-     */
-    @Query("SELECT v.consultingCategory, COUNT(v) FROM VocListCache v " +
-           "WHERE (:from IS NULL OR v.consultingDate >= :from) AND " +
-           "(:to IS NULL OR v.consultingDate <= :to) " +
-           "GROUP BY v.consultingCategory " +
-           "ORDER BY COUNT(v) DESC")
-    List<Object[]> getCategoryStats(@Param("from") LocalDate from, @Param("to") LocalDate to);
-    
-    /**
-     * 연령대별 통계
-     */
-    @Query("SELECT v.clientAge, COUNT(v) FROM VocListCache v " +
-           "WHERE (:from IS NULL OR v.consultingDate >= :from) AND " +
-           "(:to IS NULL OR v.consultingDate <= :to) " +
-           "GROUP BY v.clientAge " +
-           "ORDER BY COUNT(v) DESC")
-    List<Object[]> getAgeStats(@Param("from") LocalDate from, @Param("to") LocalDate to);
-    
-    /**
-     * 날짜 범위로 조회 (카테고리 필터링 없음)
-     */
-    List<VocListCache> findByConsultingDateBetweenOrderByConsultingDateDesc(LocalDate from, LocalDate to);
-    
-    /**
-     * 날짜 범위 + 카테고리 필터링 조회
-     */
-    List<VocListCache> findByConsultingDateBetweenAndConsultingCategoryOrderByConsultingDateDesc(
-        LocalDate from, LocalDate to, String consultingCategory);
+    @Query("SELECT COUNT(l) FROM VocListCacheLoad l WHERE l.loadDate BETWEEN :from AND :to")
+    long countLoadedDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -0,0 +1,20 @@
+package com.insightops.dashboard.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 선택 기간 조건이 있는 voc_list_cache 통계 조회 (값이 있는 조건만 SQL에 포함)
+ */
+public interface VocListCacheRepositoryCustom {
+
+    /**
+     * 카테고리별 통계 [카테고리, 건수] 건수 내림차순 (from/to가 null이면 해당 쪽 범위 조건 없음)
+     */
+    List<Object[]> getCategoryStats(LocalDate from, LocalDate to);
+
+    /**
+     * 연령대별 통계 [연령대, 건수] 건수 내림차순 (from/to가 null이면 해당 쪽 범위 조건 없음)
+     */
+    List<Object[]> getAgeStats(LocalDate from, LocalDate to);
+}
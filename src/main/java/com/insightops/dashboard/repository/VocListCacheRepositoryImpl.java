@@ -0,0 +1,55 @@
+package com.insightops.dashboard.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * VocListCacheRepositoryCustom 구현 - 걸린 기간 조건만 붙여 SQL 생성
+ * (:from IS NULL OR consulting_date >= :from) 형태는 idx_voc_list_consulting_date 범위 조회를 막으므로 사용하지 않음
+ */
+class VocListCacheRepositoryImpl implements VocListCacheRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    VocListCacheRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Object[]> getCategoryStats(LocalDate from, LocalDate to) {
+        return countBy("consulting_category", from, to);
+    }
+
+    @Override
+    public List<Object[]> getAgeStats(LocalDate from, LocalDate to) {
+        return countBy("client_age", from, to);
+    }
+
+    /**
+     * column은 위 두 메서드의 고정 컬럼명만 전달됨 (외부 입력 아님)
+     */
+    private List<Object[]> countBy(String column, LocalDate from, LocalDate to) {
+        StringBuilder sql = new StringBuilder("SELECT v.").append(column).append(", COUNT(*) AS cnt\n")
+            .append("FROM voc_list_cache v\n");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (from != null && to != null) {
+            sql.append("WHERE v.consulting_date BETWEEN :from AND :to\n");
+            params.addValue("from", from).addValue("to", to);
+        } else if (from != null) {
+            sql.append("WHERE v.consulting_date >= :from\n");
+            params.addValue("from", from);
+        } else if (to != null) {
+            sql.append("WHERE v.consulting_date <= :to\n");
+            params.addValue("to", to);
+        }
+        sql.append("GROUP BY v.").append(column).append("\n")
+            .append("ORDER BY cnt DESC");
+
+        return jdbcTemplate.query(sql.toString(), params,
+            (rs, rowNum) -> new Object[] {rs.getString(1), rs.getLong(2)});
+    }
+}
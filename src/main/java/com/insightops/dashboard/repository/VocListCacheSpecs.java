@@ -0,0 +1,75 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.VocListCache;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * VocListCache 조회 조건 - 값이 없는 조건은 WHERE 절에서 빠짐 (null 반환)
+ * (:x IS NULL OR col = :x) 대신 실제로 걸린 조건만 SQL에 들어가므로 복합 인덱스를 그대로 사용
+ * 여러 값은 IN 조건으로 DB에서 거르므로 페이지가 항상 꽉 차고 count도 필터 기준으로 계산됨
+ */
+public final class VocListCacheSpecs {
+
+    private VocListCacheSpecs() {
+    }
+
+    /**
+     * 상담 일자 범위 (from/to 중 없는 쪽은 열린 범위)
+     */
+    public static Specification<VocListCache> consultingDateBetween(LocalDate from, LocalDate to) {
+        if (from != null && to != null) {
+            return (root, query, cb) -> cb.between(root.get("consultingDate"), from, to);
+        }
+        if (from != null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("consultingDate"), from);
+        }
+        if (to != null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("consultingDate"), to);
+        }
+        return null;
+    }
+
+    public static Specification<VocListCache> categoryIs(String category) {
+        return equal("consultingCategory", category);
+    }
+
+    public static Specification<VocListCache> categoryIn(Collection<String> categories) {
+        return in("consultingCategory", categories);
+    }
+
+    public static Specification<VocListCache> clientAgeIn(Collection<String> ages) {
+        return in("clientAge", ages);
+    }
+
+    public static Specification<VocListCache> clientGenderIn(Collection<String> genders) {
+        return in("clientGender", genders);
+    }
+
+    /**
+     * 키셋 커서 다음 행 - (consultingDate, vocId) 역순 정렬 기준으로 커서보다 뒤
+     */
+    public static Specification<VocListCache> after(LocalDate consultingDate, String vocId) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("consultingDate"), consultingDate),
+            cb.and(cb.equal(root.get("consultingDate"), consultingDate),
+                   cb.lessThan(root.get("vocId"), vocId))
+        );
+    }
+
+    private static Specification<VocListCache> equal(String attribute, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static Specification<VocListCache> in(String attribute, Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+}
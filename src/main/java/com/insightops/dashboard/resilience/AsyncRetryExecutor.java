@@ -0,0 +1,172 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 재시도 실행기
+ * 재시도 대기는 스케줄러에 예약하므로 대기 중에 스레드를 점유하지 않음 (Thread.sleep 없음)
+ * 지터를 적용한 지수 백오프를 쓰고, 전역/요청 단위 재시도 예산을 넘으면 재시도하지 않음
+ * 백오프 후 요청 마감을 넘기게 되는 재시도도 하지 않음
+ */
+@Component
+public class AsyncRetryExecutor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncRetryExecutor.class);
+
+    private final ThreadPoolTaskExecutor upstreamExecutor;
+    private final RetryProperties properties;
+    private final RetryBudget globalBudget;
+    private final ScheduledExecutorService retryScheduler;
+    private final MeterRegistry meterRegistry;
+    private final Counter globalBudgetRejections;
+    private final Counter requestBudgetRejections;
+
+    public AsyncRetryExecutor(@Qualifier("upstreamExecutor") ThreadPoolTaskExecutor upstreamExecutor,
+                              RetryProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.upstreamExecutor = upstreamExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        RetryProperties.Budget budget = properties.getBudget();
+        this.globalBudget = new RetryBudget(budget.getRatio(), budget.getMinPerSecond(), budget.getMaxTokens());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.globalBudgetRejections = Counter.builder("upstream.retry.budget.rejected")
+            .tag("scope", "global")
+            .description("재시도 예산 부족으로 거부된 재시도 수")
+            .register(meterRegistry);
+        this.requestBudgetRejections = Counter.builder("upstream.retry.budget.rejected")
+            .tag("scope", "request")
+            .description("재시도 예산 부족으로 거부된 재시도 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 upstream 스레드 풀에서 실행하고, 실패 시 예산 안에서 비동기로 재시도
+     * 최종 실패 시 defaultValue로 완료되며 예외로 완료되지 않음
+     */
+    public <T> CompletableFuture<T> execute(String operationName, Supplier<T> operation, T defaultValue) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        RequestRetryBudget requestBudget = RequestRetryBudget.current();
+        RequestDeadline deadline = RequestDeadline.current();
+        globalBudget.recordRequest();
+        submitAttempt(operationName, operation, defaultValue, requestBudget, deadline, 1, result);
+        return result;
+    }
+
+    /**
+     * 동기 호출자용 - 결과를 기다림 (대기 중 재시도 스레드는 점유하지 않음)
+     */
+    public <T> T executeAndWait(String operationName, Supplier<T> operation, T defaultValue) {
+        return execute(operationName, operation, defaultValue).join();
+    }
+
+    private <T> void submitAttempt(String operationName, Supplier<T> operation, T defaultValue,
+                                   RequestRetryBudget requestBudget, RequestDeadline deadline, int attempt,
+                                CompletableFuture<T> result) {
+        try {
+            upstreamExecutor.execute(() -> runAttempt(operationName, operation, defaultValue, requestBudget, deadline, attempt, result));
+        } catch (RejectedExecutionException e) {
+            logger.warn("{} 실행 거부 (upstream 풀 포화): {}", operationName, e.getMessage());
+            result.complete(defaultValue);
+        }
+    }
+
+    private <T> void runAttempt(String operationName, Supplier<T> operation, T defaultValue,
+                                RequestRetryBudget requestBudget, RequestDeadline deadline, int attempt,
+                                CompletableFuture<T> result) {
+        // 재시도는 스케줄러 스레드에서 제출되므로 TaskDecorator 대신 직접 컨텍스트를 설정
+        RequestRetryBudget previousBudget = RequestRetryBudget.current();
+        RequestDeadline previousDeadline = RequestDeadline.current();
+        RequestRetryBudget.set(requestBudget);
+        RequestDeadline.set(deadline);
+        try {
+            attemptCounter(operationName, attempt).increment();
+            T value = operation.get();
+            if (attempt > 1) {
+                logger.info("{} 성공 (시도 {}회)", operationName, attempt);
+            }
+            result.complete(value);
+        } catch (Exception e) {
+            logger.warn("{} 실패 (시도 {}/{}): {}", operationName, attempt, properties.getMaxAttempts(), e.getMessage());
+            scheduleRetry(operationName, operation, defaultValue, requestBudget, deadline, attempt, result, e);
+        } finally {
+            RequestRetryBudget.set(previousBudget);
+            RequestDeadline.set(previousDeadline);
+        }
+    }
+
+    private <T> void scheduleRetry(String operationName, Supplier<T> operation, T defaultValue,
+                                   RequestRetryBudget requestBudget, RequestDeadline deadline, int attempt,
+                                   CompletableFuture<T> result, Exception lastException) {
+        if (attempt >= properties.getMaxAttempts()) {
+            logger.error("{} 최종 실패, 기본값 반환: {}", operationName, lastException.getMessage());
+            result.complete(defaultValue);
+            return;
+        }
+        long delayMillis = backoffMillis(attempt);
+        if (deadline != null && deadline.remainingMillis() <= delayMillis) {
+            deadline.markExceeded();
+            logger.warn("{} 요청 마감 전 재시도 불가, 기본값 반환", operationName);
+            result.complete(defaultValue);
+            return;
+        }
+        if (requestBudget != null && !requestBudget.tryAcquire()) {
+            requestBudgetRejections.increment();
+            logger.warn("{} 요청 단위 재시도 예산 소진, 기본값 반환", operationName);
+            result.complete(defaultValue);
+            return;
+        }
+        if (!globalBudget.tryAcquire()) {
+            globalBudgetRejections.increment();
+            logger.warn("{} 전역 재시도 예산 소진, 기본값 반환", operationName);
+            result.complete(defaultValue);
+            return;
+        }
+
+        retryScheduler.schedule(
+            () -> submitAttempt(operationName, operation, defaultValue, requestBudget, deadline, attempt + 1, result),
+            delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Full jitter 지수 백오프: [0, min(max, initial * multiplier^(attempt-1))]
+     */
+    private long backoffMillis(int attempt) {
+        double ceiling = properties.getInitialBackoff().toMillis() * Math.pow(properties.getMultiplier(), attempt - 1);
+        long capped = (long) Math.min(properties.getMaxBackoff().toMillis(), ceiling);
+        return capped <= 0 ? 0 : ThreadLocalRandom.current().nextLong(capped + 1);
+    }
+
+    private Counter attemptCounter(String operationName, int attempt) {
+        return Counter.builder("upstream.retry.attempts")
+            .tag("operation", operationName)
+            .tag("type", attempt == 1 ? "first" : "retry")
+            .description("외부 호출 시도 수 (최초/재시도)")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+}
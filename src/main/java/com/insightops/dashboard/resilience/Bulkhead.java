@@ -0,0 +1,47 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스별 동시 호출 수 제한 (세마포어 기반)
+ * 한 상류 서비스가 느려져도 다른 서비스 호출에 쓸 스레드/커넥션이 남도록 격리
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+
+    public Bulkhead(ExternalServiceProperties.BulkheadSettings settings) {
+        this.maxConcurrentCalls = settings.getMaxConcurrentCalls();
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitMillis = settings.getMaxWait().toMillis();
+    }
+
+    public boolean tryAcquire() {
+        if (maxWaitMillis <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,16 @@
+package com.insightops.dashboard.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 OPEN 또는 벌크헤드 포화로 외부 호출을 하지 않고 즉시 실패한 경우
+ * RestClientException 하위 타입이라 기존 클라이언트의 fallback 처리 경로를 그대로 탐
+ */
+public class CallNotPermittedException extends RestClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * CLOSED: 최근 N건의 실패율이 임계치를 넘으면 OPEN
+ * OPEN: openDuration 동안 즉시 거부, 이후 HALF_OPEN
+ * HALF_OPEN: halfOpenCalls건만 시험 호출 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public record Transition(Instant at, State from, State to) {}
+
+    private static final int MAX_TRANSITION_HISTORY = 20;
+
+    private final String name;
+    private final ExternalServiceProperties.BreakerSettings settings;
+    private final BiConsumer<State, State> transitionListener;
+
+    // 최근 호출 결과 (true = 실패) 링 버퍼
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenPermitsIssued;
+    private int halfOpenSuccesses;
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+
+    public CircuitBreaker(String name, ExternalServiceProperties.BreakerSettings settings,
+                          BiConsumer<State, State> transitionListener) {
+        this.name = name;
+        this.settings = settings;
+        this.transitionListener = transitionListener;
+        this.outcomes = new boolean[Math.max(1, settings.getSlidingWindowSize())];
+    }
+
+    /**
+     * 호출 허가 요청 - false면 호출하지 말고 즉시 실패 처리
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < settings.getOpenDuration().toMillis()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitsIssued >= settings.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermitsIssued++;
+        }
+        return true;
+    }
+
+    /**
+     * 허가 후 호출을 하지 못한 경우 (벌크헤드 거부 등) 허가 반납
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitsIssued > 0) {
+            halfOpenPermitsIssued--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onError() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED
+                && bufferedCalls >= settings.getMinimumCalls()
+                && failureRatePercent() >= settings.getFailureRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (bufferedCalls == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        if (next == State.OPEN) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+        if (next == State.HALF_OPEN) {
+            halfOpenPermitsIssued = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (next == State.CLOSED) {
+            resetWindow();
+        }
+        transitions.addLast(new Transition(Instant.now(), previous, next));
+        if (transitions.size() > MAX_TRANSITION_HISTORY) {
+            transitions.removeFirst();
+        }
+        transitionListener.accept(previous, next);
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double failureRatePercent() {
+        return bufferedCalls == 0 ? 0.0 : failedCalls * 100.0 / bufferedCalls;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    public synchronized List<Transition> getTransitions() {
+        return new ArrayList<>(transitions);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,40 @@
+package com.insightops.dashboard.resilience;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서킷 브레이커/벌크헤드 상태 조회용 actuator 엔드포인트
+ * GET /actuator/circuitbreakers
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakerEndpoint {
+
+    private final ServiceGuard serviceGuard;
+
+    public CircuitBreakerEndpoint(ServiceGuard serviceGuard) {
+        this.serviceGuard = serviceGuard;
+    }
+
+    @ReadOperation
+    public Map<String, Object> circuitBreakers() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        serviceGuard.getBreakers().forEach((service, breaker) -> {
+            Bulkhead bulkhead = serviceGuard.getBulkheads().get(service);
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("state", breaker.getState());
+            detail.put("failureRate", breaker.failureRatePercent());
+            detail.put("bufferedCalls", breaker.getBufferedCalls());
+            detail.put("bulkheadAvailable", bulkhead.getAvailablePermits());
+            detail.put("bulkheadMax", bulkhead.getMaxConcurrentCalls());
+            detail.put("transitions", breaker.getTransitions());
+            result.put(service, detail);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package com.insightops.dashboard.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 요청 마감이 지나 외부 호출을 생략하거나 중단한 경우
+ * 클라이언트에서는 다른 호출 실패와 마찬가지로 빈 결과로 처리됨
+ */
+public class DeadlineExceededException extends RestClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
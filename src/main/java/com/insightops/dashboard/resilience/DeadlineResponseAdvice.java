@@ -0,0 +1,35 @@
+package com.insightops.dashboard.resilience;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청 마감 때문에 일부 조회를 생략한 응답에 X-Deadline-Exceeded 헤더 추가
+ * 본문은 그대로 두며 시계열 응답은 status 필드로도 표시됨
+ */
+@ControllerAdvice
+public class DeadlineResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String DEADLINE_EXCEEDED_HEADER = "X-Deadline-Exceeded";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null && deadline.wasExceeded()) {
+            response.getHeaders().set(DEADLINE_EXCEEDED_HEADER, "true");
+        }
+        return body;
+    }
+}
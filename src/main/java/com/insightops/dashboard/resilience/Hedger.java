@@ -0,0 +1,249 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청 실행기 (멱등 조회 전용)
+ * 최근 응답 지연시간의 백분위만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용
+ * 헤지 요청 수는 RetryBudget으로 전체 요청의 maxHedgeRatio 비율 안으로 제한
+ * 늦게 끝난 쪽 요청은 취소하지 않고 결과만 버림
+ * 원 요청/헤지 요청은 헤지 전용 풀에서 실행 - 호출자가 upstreamExecutor 스레드에서 기다리는 동안
+ * 같은 풀의 큐 뒤에 쌓인 요청을 기다리며 풀 전체가 멈추지 않도록 분리 (전용 풀 포화 시 원 요청은 호출 스레드에서 실행)
+ */
+public class Hedger {
+
+    private static final RequestContextTaskDecorator CONTEXT_PROPAGATION = new RequestContextTaskDecorator();
+
+    private final ExternalServiceProperties.HedgeSettings settings;
+    private final ThreadPoolTaskExecutor executor;
+    private final RetryBudget hedgeBudget;
+    private final LatencyWindow latencyWindow;
+
+    private final Timer unhedgedTimer;
+    private final Timer hedgedTimer;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSkipped;
+
+    public Hedger(String operation, ExternalServiceProperties.HedgeSettings settings,
+                  ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.executor = executor;
+        this.hedgeBudget = new RetryBudget(settings.getMaxHedgeRatio(), 0, 10);
+        this.latencyWindow = new LatencyWindow(settings.getWindowSize());
+
+        this.unhedgedTimer = latencyTimer(operation, "false", meterRegistry);
+        this.hedgedTimer = latencyTimer(operation, "true", meterRegistry);
+        this.hedgesSent = Counter.builder("upstream.hedge.sent")
+            .tag("operation", operation)
+            .description("지연 응답으로 추가 전송한 헤지 요청 수")
+            .register(meterRegistry);
+        this.hedgesWon = Counter.builder("upstream.hedge.won")
+            .tag("operation", operation)
+            .description("헤지 요청이 원 요청보다 먼저 성공한 수")
+            .register(meterRegistry);
+        this.hedgesSkipped = Counter.builder("upstream.hedge.skipped")
+            .tag("operation", operation)
+            .description("헤지 비율 상한으로 헤지하지 않은 수")
+            .register(meterRegistry);
+    }
+
+    private static Timer latencyTimer(String operation, String hedged, MeterRegistry meterRegistry) {
+        return Timer.builder("upstream.hedge.latency")
+            .tag("operation", operation)
+            .tag("hedged", hedged)
+            .description("호출자가 체감한 응답 시간 (헤지 여부별)")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 실행 - 헤지 비활성 또는 표본 부족 시 호출 스레드에서 그대로 실행
+     */
+    public <T> T call(Supplier<T> call) {
+        long delayMillis = hedgeDelayMillis();
+        if (delayMillis < 0) {
+            long start = System.nanoTime();
+            T result = call.get();
+            long elapsed = System.nanoTime() - start;
+            latencyWindow.record(elapsed);
+            unhedgedTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return result;
+        }
+        return callHedged(call, delayMillis);
+    }
+
+    /**
+     * 헤지 대기시간 (ms), 헤지하지 않으면 -1
+     */
+    private long hedgeDelayMillis() {
+        if (!settings.isEnabled()) {
+            return -1;
+        }
+        long percentileNanos = latencyWindow.percentile(settings.getPercentile(), settings.getMinSamples());
+        if (percentileNanos < 0) {
+            return -1;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(percentileNanos);
+        return Math.max(settings.getMinDelay().toMillis(), Math.min(settings.getMaxDelay().toMillis(), millis));
+    }
+
+    private <T> T callHedged(Supplier<T> call, long delayMillis) {
+        hedgeBudget.recordRequest();
+        long start = System.nanoTime();
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean hedged = new AtomicBoolean();
+        // 백분위는 호출자 체감 시간이 아닌 개별 요청 시간으로 계산 (헤지로 짧아진 값이 섞이지 않도록)
+        Supplier<T> timedCall = () -> {
+            long attemptStart = System.nanoTime();
+            T value = call.get();
+            latencyWindow.record(System.nanoTime() - attemptStart);
+            return value;
+        };
+
+        // 지연 실행은 타이머 스레드에서 제출되므로 요청 컨텍스트를 여기서 미리 캡처
+        // 타이머 스레드는 헤지 요청을 전용 풀에 넘기기만 함 (풀 포화 시 헤지 생략)
+        Runnable hedgeTask = CONTEXT_PROPAGATION.decorate(() -> {
+            if (winner.isDone() || RequestDeadline.checkExpired()) {
+                return;
+            }
+            if (!hedgeBudget.tryAcquire()) {
+                hedgesSkipped.increment();
+                return;
+            }
+            CompletableFuture<T> hedge;
+            try {
+                hedge = CompletableFuture.supplyAsync(timedCall, executor);
+            } catch (RejectedExecutionException e) {
+                hedgesSkipped.increment();
+                return;
+            }
+            hedged.set(true);
+            hedgesSent.increment();
+            hedge.whenComplete((value, error) -> {
+                if (error == null && winner.complete(value)) {
+                    hedgesWon.increment();
+                } else {
+                    complete(winner, value, error, failures, hedged);
+                }
+            });
+        });
+        CompletableFuture<Void> hedgeTimer = CompletableFuture.runAsync(hedgeTask,
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, Runnable::run));
+
+        try {
+            CompletableFuture<T> primary = submit(timedCall, executor);
+            primary.whenComplete((value, error) -> complete(winner, value, error, failures, hedged));
+
+            T result = await(winner);
+            long elapsed = System.nanoTime() - start;
+            (hedged.get() ? hedgedTimer : unhedgedTimer).record(elapsed, TimeUnit.NANOSECONDS);
+            return result;
+        } finally {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    /**
+     * 요청 마감(없으면 maxWait)까지만 대기 - 초과 시 늦은 요청은 버리고 DeadlineExceededException
+     */
+    private <T> T await(CompletableFuture<T> winner) {
+        RequestDeadline deadline = RequestDeadline.current();
+        long waitMillis = deadline != null ? deadline.remainingMillis() : settings.getMaxWait().toMillis();
+        try {
+            return winner.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (deadline != null) {
+                deadline.markExceeded();
+            }
+            throw new DeadlineExceededException("헤지 호출 대기 시간 초과 (" + waitMillis + "ms)", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException("헤지 호출 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 성공은 즉시 채택, 실패는 헤지를 보냈다면 나머지 한쪽까지 실패했을 때만 전달
+     */
+    private <T> void complete(CompletableFuture<T> winner, T value, Throwable error,
+                              AtomicInteger failures, AtomicBoolean hedged) {
+        if (error == null) {
+            winner.complete(value);
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        int failed = failures.incrementAndGet();
+        if (!hedged.get() || failed >= 2) {
+            winner.completeExceptionally(cause);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call, Executor target) {
+        try {
+            return CompletableFuture.supplyAsync(call, target);
+        } catch (RejectedExecutionException e) {
+            // 풀 포화 시 호출 스레드에서 직접 실행
+            return CompletableFuture.supplyAsync(call, Runnable::run);
+        }
+    }
+
+    /**
+     * 최근 응답 지연시간 링 버퍼
+     */
+    static class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[Math.max(1, capacity)];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        /**
+         * 백분위 값 (ns), 표본이 minSamples보다 적으면 -1
+         */
+        long percentile(double percentile, int minSamples) {
+            long[] copy;
+            synchronized (this) {
+                if (size < Math.max(1, minSamples)) {
+                    return -1;
+                }
+                copy = Arrays.copyOf(samples, size);
+            }
+            Arrays.sort(copy);
+            int index = (int) Math.ceil(percentile / 100.0 * copy.length) - 1;
+            return copy[Math.max(0, Math.min(copy.length - 1, index))];
+        }
+    }
+}
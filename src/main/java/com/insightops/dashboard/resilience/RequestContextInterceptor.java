@@ -0,0 +1,60 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.RetryProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * API 요청마다 요청 단위 컨텍스트(재시도 예산, 마감 시각)를 열고 닫음
+ * 마감은 X-Request-Timeout-Ms 헤더로 줄일 수 있으며 설정된 상한을 넘지 않음
+ */
+@Component
+public class RequestContextInterceptor implements HandlerInterceptor {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final RetryProperties retryProperties;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestContextInterceptor(RetryProperties retryProperties,
+                                     @Value("${dashboard.deadline.default-timeout:15s}") Duration defaultTimeout,
+                                     @Value("${dashboard.deadline.max-timeout:30s}") Duration maxTimeout) {
+        this.retryProperties = retryProperties;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestRetryBudget.set(new RequestRetryBudget(retryProperties.getBudget().getPerRequest()));
+        RequestDeadline.set(RequestDeadline.after(resolveTimeout(request)));
+        return true;
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    return Duration.ofMillis(Math.min(millis, maxTimeout.toMillis()));
+                }
+            } catch (NumberFormatException ignored) {
+                // 잘못된 헤더는 무시하고 기본값 사용
+            }
+        }
+        return defaultTimeout;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestRetryBudget.clear();
+        RequestDeadline.clear();
+    }
+}
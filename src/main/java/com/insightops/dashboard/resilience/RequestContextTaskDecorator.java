@@ -0,0 +1,27 @@
+package com.insightops.dashboard.resilience;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 요청 스레드의 요청 단위 컨텍스트(재시도 예산, 마감 시각)를 작업 스레드로 전달
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestRetryBudget budget = RequestRetryBudget.current();
+        RequestDeadline deadline = RequestDeadline.current();
+        return () -> {
+            RequestRetryBudget previousBudget = RequestRetryBudget.current();
+            RequestDeadline previousDeadline = RequestDeadline.current();
+            RequestRetryBudget.set(budget);
+            RequestDeadline.set(deadline);
+            try {
+                runnable.run();
+            } finally {
+                RequestRetryBudget.set(previousBudget);
+                RequestDeadline.set(previousDeadline);
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.insightops.dashboard.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인바운드 요청 1건 단위의 마감 시각
+ * 요청 스레드에서 열고, 작업 스레드로는 TaskDecorator가 전달
+ * 하위 호출은 남은 시간으로 타임아웃을 줄이고, 마감이 지나면 호출하지 않음
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final AtomicBoolean exceeded = new AtomicBoolean();
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public long remainingMillis() {
+        return Math.max(0L, (expiresAtNanos - System.nanoTime()) / 1_000_000L);
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 마감 때문에 작업을 생략하거나 중단한 경우 기록 (응답 헤더에 표시)
+     */
+    public void markExceeded() {
+        exceeded.set(true);
+    }
+
+    public boolean wasExceeded() {
+        return exceeded.get();
+    }
+
+    /**
+     * 주어진 타임아웃을 남은 시간 이내로 줄임 (마감이 없으면 그대로)
+     */
+    public static Duration cap(Duration timeout) {
+        RequestDeadline deadline = current();
+        if (deadline == null) {
+            return timeout;
+        }
+        return Duration.ofMillis(Math.min(timeout.toMillis(), deadline.remainingMillis()));
+    }
+
+    /**
+     * 현재 요청의 마감이 지났으면 기록 후 true
+     */
+    public static boolean checkExpired() {
+        RequestDeadline deadline = current();
+        if (deadline != null && deadline.isExpired()) {
+            deadline.markExceeded();
+            return true;
+        }
+        return false;
+    }
+
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
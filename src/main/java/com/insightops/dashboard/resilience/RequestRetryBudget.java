@@ -0,0 +1,39 @@
+package com.insightops.dashboard.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인바운드 요청 1건 단위의 재시도 예산
+ * 한 요청이 여러 상류 호출로 퍼져도 재시도 총량은 perRequest를 넘지 않음
+ * 요청 스레드에서 열고, 작업 스레드로는 TaskDecorator가 전달
+ */
+public final class RequestRetryBudget {
+
+    private static final ThreadLocal<RequestRetryBudget> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger remaining;
+
+    public RequestRetryBudget(int retries) {
+        this.remaining = new AtomicInteger(retries);
+    }
+
+    public boolean tryAcquire() {
+        return remaining.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0;
+    }
+
+    public static RequestRetryBudget current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestRetryBudget budget) {
+        if (budget == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(budget);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,50 @@
+package com.insightops.dashboard.resilience;
+
+/**
+ * 전역 재시도 예산 (토큰 버킷)
+ * 최초 호출마다 ratio만큼 토큰이 쌓이고 재시도마다 1개를 소모하므로,
+ * 상류 장애 시에도 재시도 트래픽이 원 트래픽의 ratio 비율을 넘지 않음
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final int minPerSecond;
+    private final double maxTokens;
+
+    private double tokens;
+    private long windowStartMillis;
+    private int usedInWindow;
+
+    public RetryBudget(double ratio, int minPerSecond, int maxTokens) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * 최초 호출 기록 (토큰 적립)
+     */
+    public synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 재시도 1회 허가 요청 - 초당 최소 허용량을 먼저 쓰고, 이후 적립 토큰에서 차감
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartMillis >= 1000) {
+            windowStartMillis = now;
+            usedInWindow = 0;
+        }
+        if (usedInWindow < minPerSecond) {
+            usedInWindow++;
+            return true;
+        }
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return true;
+        }
+        return false;
+    }
+}
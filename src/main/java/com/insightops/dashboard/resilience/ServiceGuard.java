@@ -0,0 +1,131 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스 호출 보호 (서비스별 서킷 브레이커 + 벌크헤드)
+ * 상류 장애 중에는 읽기 타임아웃까지 기다리지 않고 즉시 CallNotPermittedException으로 실패
+ */
+@Component
+public class ServiceGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceGuard.class);
+
+    private static final List<String> SERVICES = List.of(
+        ExternalServiceProperties.VOICEBOT,
+        ExternalServiceProperties.NORMALIZATION,
+        ExternalServiceProperties.MAIL,
+        ExternalServiceProperties.ADMIN
+    );
+
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+    private final Map<String, Counter> bulkheadRejections = new LinkedHashMap<>();
+
+    public ServiceGuard(ExternalServiceProperties properties, MeterRegistry meterRegistry) {
+        for (String service : SERVICES) {
+            ExternalServiceProperties.Service settings = properties.get(service);
+
+            CircuitBreaker breaker = new CircuitBreaker(service, settings.getCircuitBreaker(), (from, to) -> {
+                logger.warn("{} 서킷 상태 변경: {} -> {}", service, from, to);
+                meterRegistry.counter("circuitbreaker.transitions",
+                    "service", service, "from", from.name(), "to", to.name()).increment();
+            });
+            breakers.put(service, breaker);
+            Gauge.builder("circuitbreaker.state", breaker, b -> b.getState().ordinal())
+                .tag("service", service)
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+            Gauge.builder("circuitbreaker.failure.rate", breaker, CircuitBreaker::failureRatePercent)
+                .tag("service", service)
+                .register(meterRegistry);
+
+            Bulkhead bulkhead = new Bulkhead(settings.getBulkhead());
+            bulkheads.put(service, bulkhead);
+            Gauge.builder("bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+                .tag("service", service)
+                .register(meterRegistry);
+            bulkheadRejections.put(service, meterRegistry.counter("bulkhead.rejected", "service", service));
+        }
+    }
+
+    /**
+     * 보호된 외부 호출 실행
+     * 연결 실패/타임아웃/5xx와 RestClientException이 아닌 예외는 서킷 실패로 집계하고 4xx는 상류가 살아있는 것으로 봄
+     * 요청 마감이 지났으면 호출하지 않고, 마감 때문에 끊긴 타임아웃은 서킷 실패로 보지 않음
+     */
+    public <T> T call(String service, Supplier<T> call) {
+        CircuitBreaker breaker = breakers.get(service);
+        Bulkhead bulkhead = bulkheads.get(service);
+
+        if (RequestDeadline.checkExpired()) {
+            throw new DeadlineExceededException(service + " 요청 마감 초과 - 호출 생략");
+        }
+
+        if (!breaker.tryAcquirePermission()) {
+            throw new CallNotPermittedException(service + " 서킷 OPEN - 호출 생략");
+        }
+        if (!bulkhead.tryAcquire()) {
+            breaker.releasePermission();
+            bulkheadRejections.get(service).increment();
+            throw new CallNotPermittedException(service + " 동시 호출 상한(" + bulkhead.getMaxConcurrentCalls() + ") 초과");
+        }
+
+        try {
+            T result = call.get();
+            breaker.onSuccess();
+            return result;
+        } catch (ResourceAccessException e) {
+            if (RequestDeadline.checkExpired()) {
+                breaker.releasePermission();
+                throw new DeadlineExceededException(service + " 요청 마감 초과 - 호출 중단", e);
+            }
+            breaker.onError();
+            throw e;
+        } catch (HttpServerErrorException e) {
+            breaker.onError();
+            throw e;
+        } catch (RestClientException e) {
+            breaker.onSuccess();
+            throw e;
+        } catch (RuntimeException | Error e) {
+            // 응답 디코딩 오류 등 그 밖의 예외도 결과를 기록해야 HALF_OPEN 시험 호출 허가가 반납됨
+            breaker.onError();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 반환값이 없는 보호된 외부 호출
+     */
+    public void run(String service, Runnable call) {
+        call(service, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public Map<String, CircuitBreaker> getBreakers() {
+        return breakers;
+    }
+
+    public Map<String, Bulkhead> getBulkheads() {
+        return bulkheads;
+    }
+}
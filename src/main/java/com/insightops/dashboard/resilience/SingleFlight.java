@@ -0,0 +1,71 @@
+package com.insightops.dashboard.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 중복 제거 (single-flight)
+ * 같은 키의 호출이 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과를 함께 받음
+ * 결과 객체를 호출자끼리 공유하므로 호출자는 반환값을 수정하면 안 됨
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter calls;
+    private final Counter coalesced;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.calls = Counter.builder("upstream.singleflight.calls")
+            .tag("operation", operation)
+            .description("single-flight를 거친 전체 호출 수")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("upstream.singleflight.coalesced")
+            .tag("operation", operation)
+            .description("진행 중인 동일 호출에 합류한 호출 수")
+            .register(meterRegistry);
+        Gauge.builder("upstream.singleflight.coalesce.ratio", this,
+                f -> f.calls.count() == 0 ? 0.0 : f.coalesced.count() / f.calls.count())
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
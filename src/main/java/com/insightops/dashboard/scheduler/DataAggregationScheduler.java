@@ -1,22 +1,40 @@
 package com.insightops.dashboard.scheduler;
 
+import com.insightops.dashboard.config.CacheConfig;
+import com.insightops.dashboard.domain.AggByBigCategory;
 import com.insightops.dashboard.domain.AggByCategoryAgeGender;
 import com.insightops.dashboard.domain.AggTotal;
 import com.insightops.dashboard.domain.VocListCache;
+import com.insightops.dashboard.dto.CategoryAggregationRow;
+import com.insightops.dashboard.repository.AggByBigCategoryRepository;
 import com.insightops.dashboard.repository.AggByCategoryAgeGenderRepository;
 import com.insightops.dashboard.repository.AggTotalRepository;
-import com.insightops.dashboard.repository.VocListCacheRepository;
+import com.insightops.dashboard.repository.AggregateUpsertWriter;
+import com.insightops.dashboard.repository.VocListCacheBulkWriter;
+import com.insightops.dashboard.service.DashboardService;
+import com.insightops.dashboard.service.DashboardWarmup;
+import com.insightops.dashboard.service.DimensionDictionary;
+import com.insightops.dashboard.service.VocCubeService;
 import com.insightops.dashboard.service.VocDataService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Instant;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * 매일 자정에 실행되는 데이터 집계 스케줄러
@@ -29,16 +47,41 @@ public class DataAggregationScheduler {
     private final VocDataService vocDataService;
     private final AggTotalRepository aggTotalRepo;
     private final AggByCategoryAgeGenderRepository aggCategoryRepo;
-    private final VocListCacheRepository vocListRepo;
+    private final AggByBigCategoryRepository aggBigCategoryRepo;
+    private final VocListCacheBulkWriter vocListBulkWriter;
+    private final AggregateUpsertWriter aggregateUpsertWriter;
+    private final DimensionDictionary dimensionDictionary;
+    private final CacheManager cacheManager;
+    private final DashboardService dashboardService;
+    private final VocCubeService vocCubeService;
+    private final DashboardWarmup dashboardWarmup;
+
+    // 기준일 포함 최근 일별 건수 (monthly 30일 + 이전 30일) - weekly/monthly와 이전 기간 값은 여기서 합산
+    private static final int DAILY_WINDOW_DAYS = 60;
+    private final NavigableMap<LocalDate, Long> dailyCounts = new TreeMap<>();
 
     public DataAggregationScheduler(VocDataService vocDataService,
                                    AggTotalRepository aggTotalRepo,
                                    AggByCategoryAgeGenderRepository aggCategoryRepo,
-                                   VocListCacheRepository vocListRepo) {
+                                   AggByBigCategoryRepository aggBigCategoryRepo,
+                                   VocListCacheBulkWriter vocListBulkWriter,
+                                   AggregateUpsertWriter aggregateUpsertWriter,
+                                   DimensionDictionary dimensionDictionary,
+                                   CacheManager cacheManager,
+                                   DashboardService dashboardService,
+                                   VocCubeService vocCubeService,
+                                   DashboardWarmup dashboardWarmup) {
         this.vocDataService = vocDataService;
         this.aggTotalRepo = aggTotalRepo;
         this.aggCategoryRepo = aggCategoryRepo;
-        this.vocListRepo = vocListRepo;
+        this.aggBigCategoryRepo = aggBigCategoryRepo;
+        this.vocListBulkWriter = vocListBulkWriter;
+        this.aggregateUpsertWriter = aggregateUpsertWriter;
+        this.dimensionDictionary = dimensionDictionary;
+        this.cacheManager = cacheManager;
+        this.dashboardService = dashboardService;
+        this.vocCubeService = vocCubeService;
+        this.dashboardWarmup = dashboardWarmup;
     }
 
     /**
@@ -74,9 +117,15 @@ public class DataAggregationScheduler {
                 aggregateCategoryData("month", lastMonthStart, yesterday);
             }
             
+            // Big 카테고리 롤업 (어제가 속한 day/week/month 재계산)
+            rollUpBigCategories(yesterday, yesterday);
+            
             // 3. VoC 리스트 캐시 업데이트
             updateVocListCache(yesterday, yesterday);
             
+            // 4. 대시보드 조회 캐시 무효화 (커밋 후)
+            evictDashboardCachesAfterCommit();
+            
             System.out.println("=== 데이터 집계 스케줄러 완료 ===");
             
         } catch (Exception e) {
@@ -87,49 +136,106 @@ public class DataAggregationScheduler {
     
     /**
      * 매일 실행되는 Period 별 집계 (Daily/Weekly/Monthly)
+     * 기준일 건수만 외부 서비스에서 조회하고, 나머지는 최근 일별 건수 창에서 합산
+     * 조회에 실패한 날짜는 창에 넣지 않으며, 그 날짜가 필요한 기간 행은 저장하지 않음 (다음 실행에서 다시 조회)
      */
     private void aggregatePeriodTotals(LocalDate baseDate) {
         System.out.println("Period 집계 시작 - 기준일: " + baseDate);
         
-        // Daily 집계 (최근 1일)
-        Long dailyCount = vocDataService.getDailyVocCount(baseDate);
-        Long prevDailyCount = vocDataService.getDailyVocCount(baseDate.minusDays(1));
-        saveOrUpdateAggTotal("daily", baseDate, dailyCount, prevDailyCount);
-        
-        // Weekly 집계 (최근 7일)
-        Long weeklyCount = vocDataService.getWeeklyVocCount(baseDate);
-        Long prevWeeklyCount = vocDataService.getWeeklyVocCount(baseDate.minusDays(7));
-        saveOrUpdateAggTotal("weekly", baseDate, weeklyCount, prevWeeklyCount);
-        
-        // Monthly 집계 (최근 30일)
-        Long monthlyCount = vocDataService.getMonthlyVocCount(baseDate);
-        Long prevMonthlyCount = vocDataService.getMonthlyVocCount(baseDate.minusDays(30));
-        saveOrUpdateAggTotal("monthly", baseDate, monthlyCount, prevMonthlyCount);
-        
-        System.out.println("Period 집계 완료 - Daily: " + dailyCount + ", Weekly: " + weeklyCount + ", Monthly: " + monthlyCount);
+        synchronized (dailyCounts) {
+            Long dailyCount = vocDataService.findDailyVocCount(baseDate);
+            if (dailyCount != null) {
+                dailyCounts.put(baseDate, dailyCount);
+            }
+            fillDailyWindow(baseDate);
+            
+            List<AggTotal> rows = new ArrayList<>(3);
+            // Daily 집계 (최근 1일)
+            addAggTotal(rows, "daily", baseDate, 1);
+            // Weekly 집계 (최근 7일)
+            addAggTotal(rows, "weekly", baseDate, 7);
+            // Monthly 집계 (최근 30일)
+            addAggTotal(rows, "monthly", baseDate, 30);
+            aggregateUpsertWriter.upsertTotals(rows);
+            
+            // 창 밖으로 밀려난 날짜 정리
+            dailyCounts.headMap(baseDate.minusDays(DAILY_WINDOW_DAYS - 1), false).clear();
+            
+            System.out.println("Period 집계 완료 - 저장 " + rows.size() + "/3건, Daily: " + dailyCount +
+                ", Weekly: " + sumDailyCounts(baseDate, 7) + ", Monthly: " + sumDailyCounts(baseDate, 30));
+        }
     }
     
     /**
-     * AggTotal 데이터 저장 또는 업데이트
+     * 기준일 이전 창에 비어 있는 날짜 채우기 - 저장된 daily 집계를 먼저 쓰고, 그래도 없는 날짜만 외부 서비스 조회
+     * (재시작 직후, 처음 집계하는 범위, 이전 실행에서 조회에 실패한 날짜에서만 발생)
      */
-    private void saveOrUpdateAggTotal(String periodType, LocalDate aggregationDate, Long totalCount, Long prevCount) {
-        Optional<AggTotal> existing = aggTotalRepo.findByPeriodTypeAndAggregationDate(periodType, aggregationDate);
+    private void fillDailyWindow(LocalDate baseDate) {
+        LocalDate windowStart = baseDate.minusDays(DAILY_WINDOW_DAYS - 1);
+        LocalDate windowEnd = baseDate.minusDays(1);
+        if (dailyCounts.subMap(windowStart, true, windowEnd, true).size() == DAILY_WINDOW_DAYS - 1) {
+            return;
+        }
         
-        AggTotal aggTotal;
-        if (existing.isPresent()) {
-            aggTotal = existing.get();
-            System.out.println("기존 " + periodType + " 집계 업데이트: " + aggregationDate);
-        } else {
-            aggTotal = new AggTotal();
-            aggTotal.setPeriodType(periodType);
-            aggTotal.setAggregationDate(aggregationDate);
-            System.out.println("새로운 " + periodType + " 집계 생성: " + aggregationDate);
+        for (AggTotal row : aggTotalRepo.findByPeriodTypeAndAggregationDateBetweenOrderByAggregationDate(
+                "daily", windowStart, windowEnd)) {
+            if (row.getTotalCount() != null) {
+                dailyCounts.putIfAbsent(row.getAggregationDate(), row.getTotalCount());
+            }
         }
         
+        int fetched = 0;
+        int failed = 0;
+        for (LocalDate date = windowStart; !date.isAfter(windowEnd); date = date.plusDays(1)) {
+            if (!dailyCounts.containsKey(date)) {
+                Long count = vocDataService.findDailyVocCount(date);
+                if (count != null) {
+                    dailyCounts.put(date, count);
+                    fetched++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+        if (fetched > 0 || failed > 0) {
+            System.out.println("일별 건수 창 보충: 외부 조회 " + fetched + "일, 실패 " + failed + "일");
+        }
+    }
+    
+    /**
+     * endDate로 끝나는 days일 동안의 일별 건수 합계 (창에 없는 날짜가 있으면 null)
+     */
+    private Long sumDailyCounts(LocalDate endDate, int days) {
+        var range = dailyCounts.subMap(endDate.minusDays(days - 1L), true, endDate, true);
+        if (range.size() < days) {
+            return null;
+        }
+        return range.values().stream().mapToLong(Long::longValue).sum();
+    }
+    
+    /**
+     * 기준일로 끝나는 기간과 직전 기간의 건수를 모두 알 때만 행 추가
+     */
+    private void addAggTotal(List<AggTotal> rows, String periodType, LocalDate baseDate, int days) {
+        Long totalCount = sumDailyCounts(baseDate, days);
+        Long prevCount = sumDailyCounts(baseDate.minusDays(days), days);
+        if (totalCount == null || prevCount == null) {
+            System.err.println(periodType + " 집계 생략 - 조회하지 못한 날짜 포함 (기준일 " + baseDate + ")");
+            return;
+        }
+        rows.add(aggTotal(periodType, baseDate, totalCount, prevCount));
+    }
+    
+    /**
+     * AggTotal 행 생성 (저장은 (period_type, aggregation_date) 기준 upsert)
+     */
+    private static AggTotal aggTotal(String periodType, LocalDate aggregationDate, long totalCount, long prevCount) {
+        AggTotal aggTotal = new AggTotal();
+        aggTotal.setPeriodType(periodType);
+        aggTotal.setAggregationDate(aggregationDate);
         aggTotal.setTotalCount(totalCount);
         aggTotal.setPrevCount(prevCount);
-        
-        aggTotalRepo.save(aggTotal);
+        return aggTotal;
     }
 
     /**
@@ -149,6 +255,9 @@ public class DataAggregationScheduler {
             // 주별/월별 카테고리 집계는 범위에 따라 실행 (기존 로직 유지)
             aggregateCategoryData("week", from, to);
             aggregateCategoryData("month", from, to);
+            rollUpBigCategories(from, to);
+            
+            evictDashboardCachesAfterCommit();
             
             System.out.println("=== 수동 데이터 집계 완료 ===");
             
@@ -158,6 +267,37 @@ public class DataAggregationScheduler {
         }
     }
 
+    /**
+     * 집계 결과가 커밋된 뒤 대시보드 조회 캐시를 비움 (오버뷰는 비우지 않고 백그라운드 갱신, 큐브는 증분 갱신)
+     * 커밋 전에 비우면 그 사이 들어온 요청이 이전 데이터로 캐시를 다시 채울 수 있음
+     * 비운 뒤 기본 화면은 바로 다시 예열
+     */
+    private void evictDashboardCachesAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictDashboardCaches();
+                }
+            });
+        } else {
+            evictDashboardCaches();
+        }
+    }
+
+    private void evictDashboardCaches() {
+        for (String name : CacheConfig.DASHBOARD_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+        vocCubeService.scheduledRefresh();
+        dashboardService.refreshOverview();
+        System.out.println("대시보드 조회 캐시 무효화: " + CacheConfig.DASHBOARD_CACHES);
+        dashboardWarmup.warmUp("aggregation");
+    }
+
     // === 기존 호환성을 위한 deprecated 메서드들 ===
     
     @Deprecated
@@ -180,37 +320,102 @@ public class DataAggregationScheduler {
 
     private void aggregateCategoryData(String granularity, LocalDate from, LocalDate to) {
         // TODO: API 기반으로 변경 후 수정 필요
-        // List<Map<String, Object>> categoryData = vocDataService.getCategoryAggregation(granularity, from, to);
-        List<Map<String, Object>> categoryData = List.of(); // 임시 비어있는 리스트
+        // List<CategoryAggregationRow> categoryData = voicebotClient.getCategoryAgeGenderAggregation(granularity, from, to);
+        List<CategoryAggregationRow> categoryData = List.of(); // 임시 비어있는 리스트
         
-        for (Map<String, Object> row : categoryData) {
+        List<AggByCategoryAgeGender> rows = new ArrayList<>(categoryData.size());
+        for (CategoryAggregationRow row : categoryData) {
             AggByCategoryAgeGender agg = new AggByCategoryAgeGender();
             agg.setGranularity(granularity);
-            agg.setBucketStart((LocalDate) row.get("bucket_date"));
-            agg.setConsultingCategory((String) row.get("consulting_category"));
-            agg.setClientAge((String) row.get("client_age"));
-            agg.setClientGender((String) row.get("client_gender"));
-            agg.setCount(((Number) row.get("count")).longValue());
-            
-            aggCategoryRepo.save(agg);
+            agg.setBucketStart(row.bucketDate());
+            agg.setConsultingCategory(row.consultingCategory());
+            agg.setClientAge(row.clientAge());
+            agg.setClientGender(row.clientGender());
+            agg.setCount(row.count());
+            rows.add(agg);
         }
+        // 자연키 기준 upsert (재집계 시 같은 행을 덮어씀)
+        aggregateUpsertWriter.upsertCategoryRows(rows);
         
         System.out.println(granularity + " 카테고리 집계 저장: " + categoryData.size() + "개 레코드");
     }
 
-    private void updateVocListCache(LocalDate from, LocalDate to) {
-        // 기존 캐시 데이터 삭제 (해당 날짜 범위)
-        List<VocListCache> existingData = vocListRepo.findByConsultingDateBetweenOrderByConsultingDateDesc(from, to);
-        if (!existingData.isEmpty()) {
-            vocListRepo.deleteAll(existingData);
-            System.out.println("기존 VoC 리스트 캐시 삭제: " + existingData.size() + "개");
+    /**
+     * 일별 Small 카테고리 집계를 Big 카테고리로 묶어 agg_by_big_category 재계산
+     * from~to의 day 행과 이 날짜들이 속한 주/월의 week/month 행을 지우고 다시 씀
+     * week/month 행도 일별 집계에서 합산하므로 진행 중인 주/월은 누적값으로 유지됨
+     */
+    private void rollUpBigCategories(LocalDate from, LocalDate to) {
+        LocalDate firstWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate lastWeek = to.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate firstMonth = from.withDayOfMonth(1);
+        LocalDate lastMonth = to.withDayOfMonth(1);
+        
+        LocalDate sourceFrom = firstWeek.isBefore(firstMonth) ? firstWeek : firstMonth;
+        LocalDate lastWeekEnd = lastWeek.plusDays(6);
+        LocalDate lastMonthEnd = to.with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate sourceTo = lastWeekEnd.isAfter(lastMonthEnd) ? lastWeekEnd : lastMonthEnd;
+        
+        // granularity -> bucketStart -> Big 카테고리 코드별 건수
+        DimensionDictionary.Codes codes = dimensionDictionary.current();
+        Map<String, Map<LocalDate, long[]>> rollup = new HashMap<>();
+        for (var row : aggCategoryRepo.findDailyCategoryTotals(sourceFrom, sourceTo)) {
+            LocalDate day = row.getBucketStart();
+            int bigCategory = codes.bigCodeOf(row.getSmallName());
+            long count = row.getCnt() != null ? row.getCnt() : 0L;
+            
+            if (!day.isBefore(from) && !day.isAfter(to)) {
+                addRollup(rollup, "day", day, bigCategory, count, codes);
+            }
+            LocalDate week = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            if (!week.isBefore(firstWeek) && !week.isAfter(lastWeek)) {
+                addRollup(rollup, "week", week, bigCategory, count, codes);
+            }
+            LocalDate month = day.withDayOfMonth(1);
+            if (!month.isBefore(firstMonth) && !month.isAfter(lastMonth)) {
+                addRollup(rollup, "month", month, bigCategory, count, codes);
+            }
         }
         
-        // 새로운 데이터 조회 및 저장
+        aggBigCategoryRepo.deleteByGranularityAndBucketStartBetween("day", from, to);
+        aggBigCategoryRepo.deleteByGranularityAndBucketStartBetween("week", firstWeek, lastWeek);
+        aggBigCategoryRepo.deleteByGranularityAndBucketStartBetween("month", firstMonth, lastMonth);
+        
+        List<AggByBigCategory> rows = new ArrayList<>();
+        rollup.forEach((granularity, buckets) -> buckets.forEach((bucketStart, counts) -> {
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] == 0) {
+                    continue;
+                }
+                AggByBigCategory agg = new AggByBigCategory();
+                agg.setGranularity(granularity);
+                agg.setBucketStart(bucketStart);
+                agg.setBigCategory(codes.bigName(code));
+                agg.setCount(counts[code]);
+                rows.add(agg);
+            }
+        }));
+        aggBigCategoryRepo.saveAll(rows);
+        
+        System.out.println("Big 카테고리 롤업 저장: " + from + " ~ " + to + ", " + rows.size() + "개 레코드");
+    }
+    
+    private static void addRollup(Map<String, Map<LocalDate, long[]>> rollup, String granularity,
+                                  LocalDate bucketStart, int bigCategory, long count, DimensionDictionary.Codes codes) {
+        rollup.computeIfAbsent(granularity, g -> new HashMap<>())
+            .computeIfAbsent(bucketStart, b -> new long[codes.bigCount()])[bigCategory] += count;
+    }
+
+    /**
+     * VoC 리스트 캐시 기간 교체 - 기간 DELETE 한 번 + JDBC 배치 INSERT (건별 save/delete 없음)
+     */
+    private void updateVocListCache(LocalDate from, LocalDate to) {
+        // 새로운 데이터 조회
         // TODO: API 기반으로 변경 후 수정 필요
         // List<Map<String, Object>> vocListData = vocDataService.getVocListForCache(from, to, 1000);
         List<Map<String, Object>> vocListData = List.of(); // 임시 비어있는 리스트
         
+        List<VocListCache> rows = new ArrayList<>(vocListData.size());
         for (Map<String, Object> row : vocListData) {
             VocListCache cache = new VocListCache();
             cache.setVocId((String) row.get("voc_id"));
@@ -222,10 +427,11 @@ public class DataAggregationScheduler {
             cache.setSummaryText((String) row.get("summary_text"));
             cache.setCreatedAt((Instant) row.get("created_at"));
             cache.setUpdatedAt((Instant) row.get("updated_at"));
-            
-            vocListRepo.save(cache);
+            rows.add(cache);
         }
         
-        System.out.println("VoC 리스트 캐시 저장: " + vocListData.size() + "개 레코드");
+        // 기존 캐시 데이터 삭제 후 저장 (해당 날짜 범위)
+        int saved = vocListBulkWriter.replaceRange(from, to, rows);
+        System.out.println("VoC 리스트 캐시 저장: " + saved + "개 레코드");
     }
 }
@@ -4,17 +4,30 @@ import com.insightops.dashboard.client.AdminServiceClient;
 import com.insightops.dashboard.client.MailServiceClient;
 import com.insightops.dashboard.client.NormalizationServiceClient;
 import com.insightops.dashboard.client.VoicebotServiceClient;
+import com.insightops.dashboard.config.CacheConfig;
 import com.insightops.dashboard.domain.InsightCard;
 import com.insightops.dashboard.domain.MessagePreviewCache;
 import com.insightops.dashboard.dto.*;
 import com.insightops.dashboard.repository.*;
 import com.insightops.dashboard.service.VocDataService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -34,8 +47,6 @@ import org.slf4j.LoggerFactory;
 public class DashboardService {
     
     private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
-    private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long RETRY_DELAY_MS = 1000;
     
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -43,6 +54,7 @@ public class DashboardService {
     // 로컬 집계/캐시 리포지토리
     private final AggTotalRepository aggTotalRepo;
     private final AggByCategoryAgeGenderRepository aggCategoryRepo;
+    private final AggByBigCategoryRepository aggBigCategoryRepo;
     private final InsightCardRepository insightRepo;
     private final MessagePreviewCacheRepository messageRepo;
     private final VocListCacheRepository vocListRepo;
@@ -53,9 +65,15 @@ public class DashboardService {
     private final MailServiceClient mailClient;
     private final AdminServiceClient adminClient;
     private final VocDataService vocDataService;
+    private final DimensionDictionary dimensionDictionary;
+    private final VocCubeService vocCubeService;
+    
+    // 오버뷰 카드 캐시 (stale-while-revalidate, 키: period)
+    private final LoadingCache<String, OverviewDto> overviewCache;
     
     public DashboardService(AggTotalRepository aggTotalRepo,
                            AggByCategoryAgeGenderRepository aggCategoryRepo,
+                           AggByBigCategoryRepository aggBigCategoryRepo,
                            InsightCardRepository insightRepo,
                            MessagePreviewCacheRepository messageRepo,
                            VocListCacheRepository vocListRepo,
@@ -63,9 +81,15 @@ public class DashboardService {
                            NormalizationServiceClient normalizationClient,
                            MailServiceClient mailClient,
                            AdminServiceClient adminClient,
-                           VocDataService vocDataService) {
+                           VocDataService vocDataService,
+                           DimensionDictionary dimensionDictionary,
+                           VocCubeService vocCubeService,
+                           @Qualifier("refreshExecutor") ThreadPoolTaskExecutor refreshExecutor,
+                           @Value("${dashboard.overview.refresh-after:1m}") Duration overviewRefreshAfter,
+                           MeterRegistry meterRegistry) {
         this.aggTotalRepo = aggTotalRepo;
         this.aggCategoryRepo = aggCategoryRepo;
+        this.aggBigCategoryRepo = aggBigCategoryRepo;
         this.insightRepo = insightRepo;
         this.messageRepo = messageRepo;
         this.vocListRepo = vocListRepo;
@@ -74,88 +98,123 @@ public class DashboardService {
         this.mailClient = mailClient;
         this.adminClient = adminClient;
         this.vocDataService = vocDataService;
+        this.dimensionDictionary = dimensionDictionary;
+        this.vocCubeService = vocCubeService;
+        // refreshAfterWrite: 소프트 TTL이 지난 항목은 기존 값을 바로 반환하고 백그라운드에서 다시 읽음
+        // 만료(expireAfterWrite)는 두지 않아 최초 조회 외에는 요청이 적재를 기다리지 않음
+        this.overviewCache = Caffeine.newBuilder()
+            .maximumSize(16)
+            .refreshAfterWrite(overviewRefreshAfter)
+            .executor(refreshExecutor)
+            .recordStats()
+            .build(this::loadOverview);
+        CaffeineCacheMetrics.monitor(meterRegistry, overviewCache, "overview");
     }
 
     /**
      * A. 오버뷰 화면 데이터 조회 - period별 토글 지원 (daily/weekly/monthly)
+     * 캐시에서 바로 반환하며, 오래된 값은 반환 후 백그라운드에서 갱신 (period당 갱신은 하나만 진행)
      */
     public OverviewDto getOverview(String period) {
         // 기본값 설정
-        if (period == null || period.isEmpty()) {
+        if (period == null || period.isBlank()) {
             period = "daily";
         }
+        String key = period.trim().toLowerCase();
         
+        try {
+            return overviewCache.get(key);
+        } catch (Exception e) {
+            logger.error("오버뷰 데이터 조회 중 오류: {}", e.getMessage(), e);
+            // 최초 적재 실패 시 Mock 데이터 반환 (캐시에는 넣지 않음)
+            return generateMockOverviewData(key);
+        }
+    }
+    
+    /**
+     * 오버뷰가 캐시에 적재되어 있는지 (최초 적재 실패로 Mock을 반환한 경우 false)
+     */
+    public boolean isOverviewCached(String period) {
+        return overviewCache.getIfPresent(period.trim().toLowerCase()) != null;
+    }
+    
+    /**
+     * 캐시된 오버뷰를 모두 백그라운드에서 다시 읽음 (집계 완료 후 호출)
+     * 갱신이 끝날 때까지 기존 값을 계속 반환하고, 갱신이 실패하면 기존 값을 유지
+     */
+    public void refreshOverview() {
+        overviewCache.refreshAll(overviewCache.asMap().keySet());
+    }
+    
+    /**
+     * 오버뷰 적재 - 예외는 그대로 던져 백그라운드 갱신 실패 시 기존 값이 유지되도록 함
+     */
+    private OverviewDto loadOverview(String period) {
         // 로컬 개발환경에서는 Mock 데이터 반환
         if ("local".equals(activeProfile)) {
             return generateMockOverviewData(period);
         }
         
-        try {
-            // 새로운 스키마에서 최신 집계 데이터 조회
-            var overviewData = aggTotalRepo.findLatestByPeriodType(period);
+        // 새로운 스키마에서 최신 집계 데이터 조회
+        var overviewData = aggTotalRepo.findLatestByPeriodType(period);
+        
+        if (overviewData.isPresent()) {
+            var data = overviewData.get();
             
-            if (overviewData.isPresent()) {
-                var data = overviewData.get();
-                
-                // Top 카테고리 조회 (안전한 처리)
-                String topCategory = "정보 없음";
-                double topRatio = 0.0;
-                
-                try {
-                    LocalDate now = LocalDate.now();
-                    LocalDate firstDay = now.withDayOfMonth(1);
-                    var topSmall = aggCategoryRepo.findTopSmallOfMonth(firstDay);
-                    topCategory = topSmall.map(row -> row.getSmallName()).orElse("정보 없음");
-                    topRatio = topSmall.map(row ->
-                        row.getTotalCnt() == 0 ? 0.0 : (double)row.getCnt() / row.getTotalCnt() * 100.0
-                    ).orElse(0.0);
-                } catch (Exception e) {
-                    logger.warn("Top 카테고리 조회 실패, 기본값 사용: {}", e.getMessage());
-                }
-                
-                return new OverviewDto(
-                    data.getTotalCount(), 
-                    data.getPrevCount(), 
-                    data.getDeltaPercent(), 
-                    topCategory, 
-                    topRatio
-                );
-            } else {
-                // 집계 데이터가 없는 경우 실시간 계산
-                LocalDate today = LocalDate.now();
-                LocalDate yesterday = today.minusDays(1);
-                
-                Long currentCount = 0L;
-                Long prevCount = 0L;
-                
-                // Period별 실시간 계산
-                switch (period.toLowerCase()) {
-                    case "daily":
-                        currentCount = vocDataService.getDailyVocCount(yesterday);
-                        prevCount = vocDataService.getDailyVocCount(yesterday.minusDays(1));
-                        break;
-                    case "weekly":
-                        currentCount = vocDataService.getWeeklyVocCount(yesterday);
-                        prevCount = vocDataService.getWeeklyVocCount(yesterday.minusDays(7));
-                        break;
-                    case "monthly":
-                        currentCount = vocDataService.getMonthlyVocCount(yesterday);
-                        prevCount = vocDataService.getMonthlyVocCount(yesterday.minusDays(30));
-                        break;
-                    default:
-                        currentCount = vocDataService.getDailyVocCount(yesterday);
-                        prevCount = vocDataService.getDailyVocCount(yesterday.minusDays(1));
-                }
-                
-                // 증감률 계산
-                double deltaPercent = prevCount == 0 ? 0.0 : ((double)(currentCount - prevCount) / prevCount) * 100.0;
-                
-                return new OverviewDto(currentCount, prevCount, deltaPercent, "정보 없음", 0.0);
+            // Top 카테고리 조회 (안전한 처리)
+            String topCategory = "정보 없음";
+            double topRatio = 0.0;
+            
+            try {
+                LocalDate now = LocalDate.now();
+                LocalDate firstDay = now.withDayOfMonth(1);
+                var topSmall = aggCategoryRepo.findTopSmallOfMonth(firstDay);
+                topCategory = topSmall.map(row -> row.getSmallName()).orElse("정보 없음");
+                topRatio = topSmall.map(row ->
+                    row.getTotalCnt() == 0 ? 0.0 : (double)row.getCnt() / row.getTotalCnt() * 100.0
+                ).orElse(0.0);
+            } catch (Exception e) {
+                logger.warn("Top 카테고리 조회 실패, 기본값 사용: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            logger.error("오버뷰 데이터 조회 중 오류: {}", e.getMessage(), e);
-            // 오류 발생 시 Mock 데이터 반환
-            return generateMockOverviewData(period);
+            
+            return new OverviewDto(
+                data.getTotalCount(), 
+                data.getPrevCount(), 
+                data.getDeltaPercent(), 
+                topCategory, 
+                topRatio
+            );
+        } else {
+            // 집계 데이터가 없는 경우 실시간 계산
+            LocalDate today = LocalDate.now();
+            LocalDate yesterday = today.minusDays(1);
+            
+            Long currentCount = 0L;
+            Long prevCount = 0L;
+            
+            // Period별 실시간 계산
+            switch (period.toLowerCase()) {
+                case "daily":
+                    currentCount = vocDataService.getDailyVocCount(yesterday);
+                    prevCount = vocDataService.getDailyVocCount(yesterday.minusDays(1));
+                    break;
+                case "weekly":
+                    currentCount = vocDataService.getWeeklyVocCount(yesterday);
+                    prevCount = vocDataService.getWeeklyVocCount(yesterday.minusDays(7));
+                    break;
+                case "monthly":
+                    currentCount = vocDataService.getMonthlyVocCount(yesterday);
+                    prevCount = vocDataService.getMonthlyVocCount(yesterday.minusDays(30));
+                    break;
+                default:
+                    currentCount = vocDataService.getDailyVocCount(yesterday);
+                    prevCount = vocDataService.getDailyVocCount(yesterday.minusDays(1));
+            }
+            
+            // 증감률 계산
+            double deltaPercent = prevCount == 0 ? 0.0 : ((double)(currentCount - prevCount) / prevCount) * 100.0;
+            
+            return new OverviewDto(currentCount, prevCount, deltaPercent, "정보 없음", 0.0);
         }
     }
     
@@ -192,8 +251,12 @@ public class DashboardService {
     }
 
     /**
-     * B. Big 카테고리 비중 데이터 조회 (파이차트용) - Normalization API 기반
+     * B. Big 카테고리 비중 데이터 조회 (파이차트용)
+     * agg_by_big_category 롤업이 기간 전체를 덮으면 범위 쿼리 한 번으로 조회하고, 아니면 Normalization API로 직접 집계
+     * 조회 실패 시 빈 목록을 반환해 캐시하지 않음 (Mock/부분 집계가 TTL 동안 남지 않도록)
      */
+    @Cacheable(cacheNames = CacheConfig.BIG_CATEGORY_SHARE, keyGenerator = "dashboardKeyGenerator",
+               unless = "#result.isEmpty()")
     public List<ShareItem> getBigCategoryShare(String granularity, LocalDate from, LocalDate to) {
         // 로컬 개발환경에서는 Mock 데이터 반환
         if ("local".equals(activeProfile)) {
@@ -201,38 +264,98 @@ public class DashboardService {
         }
         
         try {
-            // Normalization Service에서 voc_normalized 데이터 조회
-            List<CaseItem> vocList = normalizationClient.getVocEventsWithSummary(
+            List<ShareItem> rolledUp = getBigCategoryShareFromRollup(from, to);
+            if (rolledUp != null) {
+                return rolledUp;
+            }
+            
+            // 롤업이 기간 일부만 덮는 경우: Normalization Service 응답을 페이지 단위 스트리밍으로 읽으며 Big Category 코드별로 카운트
+            DimensionDictionary.Codes codes = dimensionDictionary.current();
+            long[] bigCounts = new long[codes.bigCount()];
+            normalizationClient.streamAllVocEvents(
                 from.atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
                 to.plusDays(1).atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
-                null, 1, 10000);
-            
-            // Small Category를 Big Category로 그룹핑하여 집계
-            Map<String, Long> bigCategoryMap = vocList.stream()
-                .collect(Collectors.groupingBy(
-                    voc -> mapSmallToBigCategory(voc.consultingCategoryName()),
-                    Collectors.counting()
-                ));
+                null,
+                voc -> bigCounts[codes.bigCodeOf(voc.consultingCategoryName())]++);
             
-            // 총 건수 계산
-            long totalCount = bigCategoryMap.values().stream().mapToLong(Long::longValue).sum();
-            
-            // ShareItem으로 변환하여 비중 계산
-            return bigCategoryMap.entrySet().stream()
-                .map(entry -> {
-                    String bigCategory = entry.getKey();
-                    Long count = entry.getValue();
-                    double ratio = totalCount == 0 ? 0.0 : (double) count / totalCount * 100.0;
-                    return new ShareItem(bigCategory, count, Math.round(ratio * 10) / 10.0);
-                })
-                .sorted((a, b) -> Long.compare(b.count(), a.count())) // 건수 내림차순 정렬
-                .toList();
+            Map<String, Long> bigCategoryMap = new HashMap<>();
+            for (int code = 0; code < bigCounts.length; code++) {
+                if (bigCounts[code] > 0) {
+                    bigCategoryMap.put(codes.bigName(code), bigCounts[code]);
+                }
+            }
+            return toShareItems(bigCategoryMap);
         } catch (Exception e) {
             logger.error("빅카테고리 비중 데이터 조회 오류: {}", e.getMessage());
-            return generateMockBigCategoryShare(); // Mock 데이터 반환
+            return List.of();
         }
     }
     
+    /**
+     * 롤업 테이블에서 기간 내 Big 카테고리 건수 조회
+     * 기간 안에 온전히 들어가는 달은 month 행 하나로, 앞뒤 남는 날짜만 day 행으로 읽음
+     * 구간의 달/날짜 중 롤업 행이 없는 버킷이 있으면 null (일부 기간만 합산한 비중을 반환/캐시하지 않도록)
+     */
+    private List<ShareItem> getBigCategoryShareFromRollup(LocalDate from, LocalDate to) {
+        LocalDate firstFullMonth = from.getDayOfMonth() == 1 ? from : from.plusMonths(1).withDayOfMonth(1);
+        LocalDate lastFullMonthEnd = to.equals(to.withDayOfMonth(to.lengthOfMonth())) ? to : to.withDayOfMonth(1).minusDays(1);
+        
+        LocalDate headTo;
+        LocalDate monthFrom;
+        LocalDate monthTo;
+        LocalDate tailFrom;
+        long expectedBuckets;
+        if (firstFullMonth.isAfter(lastFullMonthEnd)) {
+            // 온전한 달이 없으면 day 행만 사용 (month/뒤쪽 구간은 빈 범위)
+            headTo = to;
+            monthFrom = firstFullMonth;
+            monthTo = firstFullMonth.minusDays(1);
+            tailFrom = to.plusDays(1);
+            expectedBuckets = ChronoUnit.DAYS.between(from, to) + 1;
+        } else {
+            headTo = firstFullMonth.minusDays(1);
+            monthFrom = firstFullMonth;
+            monthTo = lastFullMonthEnd.withDayOfMonth(1);
+            tailFrom = lastFullMonthEnd.plusDays(1);
+            expectedBuckets = ChronoUnit.DAYS.between(from, firstFullMonth)
+                + ChronoUnit.MONTHS.between(monthFrom, monthTo) + 1
+                + ChronoUnit.DAYS.between(lastFullMonthEnd, to);
+        }
+        
+        long covered = aggBigCategoryRepo.countCoveredBuckets(from, headTo, monthFrom, monthTo, tailFrom, to);
+        if (covered < expectedBuckets) {
+            logger.debug("빅카테고리 롤업이 기간 일부만 포함 ({}/{} 버킷) - 원천 집계 사용", covered, expectedBuckets);
+            return null;
+        }
+        List<AggByBigCategoryRepository.ShareRow> rows =
+            aggBigCategoryRepo.findShare(from, headTo, monthFrom, monthTo, tailFrom, to);
+        
+        Map<String, Long> bigCategoryMap = new HashMap<>();
+        for (var row : rows) {
+            bigCategoryMap.merge(row.getBigCategory(), row.getCnt() != null ? row.getCnt() : 0L, Long::sum);
+        }
+        return toShareItems(bigCategoryMap);
+    }
+    
+    /**
+     * Big 카테고리별 건수를 비중(%)과 함께 건수 내림차순 ShareItem 목록으로 변환
+     */
+    private List<ShareItem> toShareItems(Map<String, Long> bigCategoryMap) {
+        // 총 건수 계산
+        long totalCount = bigCategoryMap.values().stream().mapToLong(Long::longValue).sum();
+        
+        // ShareItem으로 변환하여 비중 계산
+        return bigCategoryMap.entrySet().stream()
+            .map(entry -> {
+                String bigCategory = entry.getKey();
+                Long count = entry.getValue();
+                double ratio = totalCount == 0 ? 0.0 : (double) count / totalCount * 100.0;
+                return new ShareItem(bigCategory, count, Math.round(ratio * 10) / 10.0);
+            })
+            .sorted((a, b) -> Long.compare(b.count(), a.count())) // 건수 내림차순 정렬
+            .toList();
+    }
+    
     /**
      * Mock Big Category Share 데이터 생성
      */
@@ -248,7 +371,10 @@ public class DashboardService {
 
     /**
      * C. 전체 VoC 변화량 시계열 데이터 조회 (라인차트용) - 로컬 집계 캐시
+     * 조회 실패 시 빈 목록을 반환해 캐시하지 않음
      */
+    @Cacheable(cacheNames = CacheConfig.TOTAL_SERIES, keyGenerator = "dashboardKeyGenerator",
+               unless = "#result.isEmpty()")
     public List<SeriesPoint> getTotalSeries(String granularity, LocalDate from, LocalDate to) {
         // 로컬 개발환경에서는 Mock 데이터 반환
         if ("local".equals(activeProfile)) {
@@ -256,15 +382,54 @@ public class DashboardService {
         }
         
         try {
-            var points = aggTotalRepo.findSeries(granularity, from, to);
+            String periodType = toPeriodType(granularity);
+            List<SeriesPoint> fromCube = getTotalSeriesFromCube(periodType, from, to);
+            if (fromCube != null) {
+                return fromCube;
+            }
+            
+            var points = aggTotalRepo.findSeries(periodType, from, to);
             
             return points.stream()
                 .map(point -> new SeriesPoint(point.getBucketStart(), point.getTotalCount()))
                 .toList();
         } catch (Exception e) {
             logger.error("시계열 데이터 조회 실패: {}", e.getMessage());
-            return generateMockTotalSeries(granularity, from, to); // Mock 데이터 반환
+            return List.of();
+        }
+    }
+    
+    /**
+     * 차트 API 단위(day/week/month, 화면 요청값)를 agg_total의 period_type(daily/weekly/monthly)으로 변환
+     */
+    private static String toPeriodType(String granularity) {
+        return switch (granularity != null ? granularity.trim().toLowerCase() : "") {
+            case "day" -> "daily";
+            case "week" -> "weekly";
+            case "month" -> "monthly";
+            default -> granularity;
+        };
+    }
+    
+    /**
+     * 큐브 누적합으로 agg_total과 같은 의미(각 날짜로 끝나는 1/7/30일 합계)의 일별 시계열 계산
+     * 첫 창의 시작일부터 to까지 큐브가 모두 덮지 못하면 null (비었거나 일부만 적재된 큐브 포함, agg_total 조회로 대체)
+     */
+    private List<SeriesPoint> getTotalSeriesFromCube(String granularity, LocalDate from, LocalDate to) {
+        int window = VocCubeService.windowDays(granularity);
+        if (window < 0) {
+            return null;
         }
+        VocCube cube = vocCubeService.covering(from.minusDays(window - 1L), to);
+        if (cube == null) {
+            return null;
+        }
+        
+        List<SeriesPoint> points = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            points.add(new SeriesPoint(day, cube.total(day.minusDays(window - 1L), day)));
+        }
+        return points;
     }
     
     /**
@@ -292,10 +457,28 @@ public class DashboardService {
 
     /**
      * D. Small 카테고리 트렌드 분석 (필터: 연령, 성별) - 로컬 집계 캐시
+     * daily 조회이고 인메모리 큐브가 from~to 전체를 덮으며 연령/성별 값을 모두 알면 큐브의 일별 건수로 계산
+     * (큐브는 일 단위 셀만 가지므로 weekly/monthly는 agg_by_category_age_gender의 해당 단위 행으로 조회)
      */
+    @Cacheable(cacheNames = CacheConfig.SMALL_TRENDS, keyGenerator = "dashboardKeyGenerator",
+               unless = "#result.isEmpty()")
     public List<SmallTrendItem> getSmallTrends(String granularity, LocalDate from, LocalDate to,
                                                String clientAge, String clientGender, int limit) {
         try {
+            VocCube cube = "daily".equalsIgnoreCase(granularity) ? vocCubeService.covering(from, to) : null;
+            Map<String, Long> cubeCounts = cube != null
+                ? cube.countByCategory(from, to,
+                    clientAge != null ? List.of(clientAge) : null,
+                    clientGender != null ? List.of(clientGender) : null)
+                : null;
+            if (cubeCounts != null) {
+                return cubeCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> new SmallTrendItem(entry.getKey(), entry.getValue()))
+                    .toList();
+            }
+            
             var trends = aggCategoryRepo.findSmallTrends(granularity, from, to, clientAge, clientGender, limit);
             
             return trends.stream()
@@ -334,42 +517,151 @@ public class DashboardService {
 
     /**
      * F. 상담 사례 목록 조회 - VocListCache에서 조회
+     * cursor가 있으면 그 다음 행부터 키셋으로 조회 (page 무시), 없으면 page 위치부터 조회
+     * 한 건을 더 읽어 다음 페이지가 있을 때만 nextCursor를 채움
      */
-    public List<CaseItem> getCases(LocalDate from, LocalDate to, String consultingCategory, int page, int size) {
-        // VocListCache에서 필터링하여 조회
-        List<com.insightops.dashboard.domain.VocListCache> vocList;
+    public CasePage getCases(LocalDate from, LocalDate to, String consultingCategory, String cursor,
+                             int page, int size) {
+        String category = consultingCategory != null && !consultingCategory.trim().isEmpty()
+            ? consultingCategory : null;
+        
+        // 걸린 조건만 WHERE에 포함 (카테고리 유무에 따라 인덱스 선택이 달라짐)
+        Specification<com.insightops.dashboard.domain.VocListCache> spec = Specification
+            .where(VocListCacheSpecs.consultingDateBetween(from, to))
+            .and(VocListCacheSpecs.categoryIs(category));
+        Sort sort = Sort.by(Sort.Direction.DESC, "consultingDate", "vocId");
         
-        if (consultingCategory != null && !consultingCategory.trim().isEmpty()) {
-            // 카테고리 필터링 적용
-            vocList = vocListRepo.findByConsultingDateBetweenAndConsultingCategoryOrderByConsultingDateDesc(
-                from, to, consultingCategory);
+        List<com.insightops.dashboard.domain.VocListCache> rows;
+        boolean hasNext;
+        if (cursor != null && !cursor.isBlank()) {
+            CaseCursor after = CaseCursor.decode(cursor);
+            var keyset = spec.and(VocListCacheSpecs.after(after.consultingDate(), after.vocId()));
+            rows = vocListRepo.findBy(keyset, query -> query.sortBy(sort).limit(size + 1).all());
+            hasNext = rows.size() > size;
+        } else if (page > 0) {
+            // 커서 없이 page를 지정한 기존 호출은 DB offset으로 처리 (꽉 찬 페이지면 다음 페이지가 있다고 봄)
+            rows = vocListRepo.findAll(spec, PageRequest.of(page, size, sort)).getContent();
+            hasNext = rows.size() == size;
         } else {
-            // 전체 조회
-            vocList = vocListRepo.findByConsultingDateBetweenOrderByConsultingDateDesc(from, to);
+            rows = vocListRepo.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+            hasNext = rows.size() > size;
         }
         
-        // 페이징 처리 (간단한 방식)
-        int startIndex = page * size;
-        int endIndex = Math.min(startIndex + size, vocList.size());
+        List<com.insightops.dashboard.domain.VocListCache> pagedList = rows.size() > size ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            var last = pagedList.get(pagedList.size() - 1);
+            nextCursor = new CaseCursor(last.getConsultingDate(), last.getVocId()).encode();
+        }
         
-        if (startIndex >= vocList.size()) {
-            return List.of(); // 빈 리스트 반환
+        return new CasePage(pagedList.stream().map(this::toCaseItem).toList(), nextCursor);
+    }
+    
+    /**
+     * VocListCache를 CaseItem으로 변환
+     */
+    private CaseItem toCaseItem(com.insightops.dashboard.domain.VocListCache voc) {
+        return new CaseItem(
+            voc.getVocId().hashCode() % 10000L, // 임시 ID (실제로는 sequence나 별도 ID 사용)
+            voc.getSourceSystem(),
+            voc.getConsultingDate().toString(),
+            dimensionDictionary.toBigCategory(voc.getConsultingCategory()), // Big Category 매핑
+            voc.getConsultingCategory(), // Small Category
+            voc.getClientAge(),
+            voc.getClientGender(),
+            voc.getSummaryText()
+        );
+    }
+    
+    /**
+     * F-1. 필터링된 상담 사례 목록 조회 (카테고리/연령/성별 다중 선택)
+     * 기간의 모든 일자가 VocListCache에 적재 완료되어 있으면 필터를 DB 조건으로 넘겨 페이지 단위로 조회 (totalCount는 필터 기준 전체 건수)
+     * 적재되지 않은 기간은 정규화 서비스 한 페이지를 받아 거름 (이 경우 totalCount는 해당 페이지 기준)
+     */
+    public Map<String, Object> getFilteredCases(FilterRequest filter) {
+        int page = filter.page() != null ? Math.max(0, filter.page()) : 0;
+        int size = filter.size() != null && filter.size() > 0 ? filter.size() : 100;
+        
+        List<CaseItem> cases;
+        long totalCount;
+        String source;
+        if (isVocListCacheLoaded(filter.startDate(), filter.endDate())) {
+            Specification<com.insightops.dashboard.domain.VocListCache> spec = Specification
+                .where(VocListCacheSpecs.consultingDateBetween(filter.startDate(), filter.endDate()))
+                .and(VocListCacheSpecs.categoryIn(filter.categories()))
+                .and(VocListCacheSpecs.clientAgeIn(filter.ageGroups()))
+                .and(VocListCacheSpecs.clientGenderIn(filter.genders()));
+            var result = vocListRepo.findAll(spec, PageRequest.of(page, size, filteredCasesSort(filter)));
+            
+            cases = result.getContent().stream().map(this::toCaseItem).toList();
+            totalCount = result.getTotalElements();
+            source = "local";
+        } else {
+            List<CaseItem> upstream = normalizationClient.getVocEventsWithSummary(
+                filter.startDate().atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
+                filter.endDate().plusDays(1).atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
+                null, page + 1, size
+            );
+            cases = applyFilters(upstream, filter);
+            totalCount = cases.size();
+            source = "upstream";
         }
         
-        List<com.insightops.dashboard.domain.VocListCache> pagedList = vocList.subList(startIndex, endIndex);
-        
-        // VocListCache를 CaseItem으로 변환
-        return pagedList.stream()
-            .map(voc -> new CaseItem(
-                voc.getVocId().hashCode() % 10000L, // 임시 ID (실제로는 sequence나 별도 ID 사용)
-                voc.getSourceSystem(),
-                voc.getConsultingDate().toString(),
-                mapSmallToBigCategory(voc.getConsultingCategory()), // Big Category 매핑
-                voc.getConsultingCategory(), // Small Category
-                voc.getClientAge(),
-                voc.getClientGender(),
-                voc.getSummaryText()
-            ))
+        Map<String, Object> result = new HashMap<>();
+        result.put("cases", cases);
+        result.put("totalCount", totalCount);
+        result.put("filter", filter);
+        result.put("page", page);
+        result.put("size", size);
+        result.put("source", source);
+        return result;
+    }
+    
+    /**
+     * from~to 모든 일자의 VocListCache 적재가 완료됐는지 (적재 완료 표시 기준, 행 존재 여부가 아님)
+     */
+    private boolean isVocListCacheLoaded(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            return false;
+        }
+        return vocListRepo.countLoadedDays(from, to) == ChronoUnit.DAYS.between(from, to) + 1;
+    }
+    
+    /**
+     * 필터 요청의 정렬 기준 (category 또는 date, 같은 값은 최신 적재 순)
+     */
+    private Sort filteredCasesSort(FilterRequest filter) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(filter.sortOrder()) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String property = "category".equalsIgnoreCase(filter.sortBy()) ? "consultingCategory" : "consultingDate";
+        return Sort.by(direction, property).and(Sort.by(Sort.Direction.DESC, "createdAt", "vocId"));
+    }
+    
+    /**
+     * 필터링 적용 (정규화 서비스 응답용)
+     */
+    private List<CaseItem> applyFilters(List<CaseItem> cases, FilterRequest filter) {
+        return cases.stream()
+            .filter(caseItem -> {
+                // 카테고리 필터
+                if (filter.hasCategoryFilter() && 
+                    !filter.categories().contains(caseItem.consultingCategoryName())) {
+                    return false;
+                }
+                
+                // 연령대 필터
+                if (filter.hasAgeGroupFilter() && 
+                    !filter.ageGroups().contains(caseItem.clientAge())) {
+                    return false;
+                }
+                
+                // 성별 필터
+                if (filter.hasGenderFilter() && 
+                    !filter.genders().contains(caseItem.clientGender())) {
+                    return false;
+                }
+                
+                return true;
+            })
             .toList();
     }
 
@@ -409,34 +701,55 @@ public class DashboardService {
     }
     
     /**
-     * K. Top Small Category 계산 로직
+     * K. Top Small Category 계산 로직 (전체 0건 결과는 캐시하지 않음)
      */
+    @Cacheable(cacheNames = CacheConfig.TOP_SMALL_CATEGORY, keyGenerator = "dashboardKeyGenerator",
+               unless = "#result['totalCount'] == 0")
     public Map<String, Object> getTopSmallCategory(String period, LocalDate baseDate) {
         try {
             // Normalization Service에서 데이터 조회
             LocalDate from = calculatePeriodStart(period, baseDate);
             LocalDate to = baseDate;
             
-            List<CaseItem> vocList = normalizationClient.getVocEventsWithSummary(
+            // Small Category별 집계 (응답을 스트리밍으로 읽으며 코드별 배열에 바로 카운트, 사전에 없는 카테고리만 맵 사용)
+            DimensionDictionary.Codes codes = dimensionDictionary.current();
+            long[] smallCounts = new long[codes.smallCount()];
+            Map<String, Long> unmappedCounts = new HashMap<>();
+            normalizationClient.streamAllVocEvents(
                 from.atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
                 to.plusDays(1).atStartOfDay().toInstant(java.time.ZoneOffset.UTC),
-                null, 1, 10000);
-            
-            // Small Category별 집계
-            Map<String, Long> categoryCounts = vocList.stream()
-                .collect(Collectors.groupingBy(
-                    CaseItem::consultingCategoryName,
-                    Collectors.counting()
-                ));
+                null,
+                voc -> {
+                    String name = voc.consultingCategoryName();
+                    if (name == null) {
+                        return;
+                    }
+                    int code = codes.smallCode(name);
+                    if (code >= 0) {
+                        smallCounts[code]++;
+                    } else {
+                        unmappedCounts.merge(name, 1L, Long::sum);
+                    }
+                });
             
             // Top Category 찾기
-            String topCategory = categoryCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("정보 없음");
-            
-            Long topCount = categoryCounts.getOrDefault(topCategory, 0L);
-            Long totalCount = categoryCounts.values().stream().mapToLong(Long::longValue).sum();
+            String topCategory = "정보 없음";
+            long topCount = 0L;
+            long totalCount = 0L;
+            for (int code = 0; code < smallCounts.length; code++) {
+                totalCount += smallCounts[code];
+                if (smallCounts[code] > topCount) {
+                    topCount = smallCounts[code];
+                    topCategory = codes.smallName(code);
+                }
+            }
+            for (Map.Entry<String, Long> entry : unmappedCounts.entrySet()) {
+                totalCount += entry.getValue();
+                if (entry.getValue() > topCount) {
+                    topCount = entry.getValue();
+                    topCategory = entry.getKey();
+                }
+            }
             double topShare = totalCount > 0 ? (topCount * 100.0 / totalCount) : 0.0;
             
             Map<String, Object> result = new HashMap<>();
@@ -475,8 +788,10 @@ public class DashboardService {
     }
     
     /**
-     * M. Period별 비교 데이터 조회
+     * M. Period별 비교 데이터 조회 (조회 실패 시 빈 결과는 캐시하지 않음)
      */
+    @Cacheable(cacheNames = CacheConfig.PERIOD_COMPARISON, keyGenerator = "dashboardKeyGenerator",
+               unless = "#result.isEmpty()")
     public Map<String, Object> getPeriodComparison(String period, LocalDate baseDate) {
         return vocDataService.getPeriodComparison(period, baseDate);
     }
@@ -715,69 +1030,4 @@ public class DashboardService {
         
         return String.format("트렌드: %s, 변화율: %.1f%%, 방향: %s", trend, change, directionText);
     }
-    
-    /**
-     * Small Category를 Big Category로 매핑하는 유틸리티 메서드
-     */
-    private String mapSmallToBigCategory(String consultingCategory) {
-        if (consultingCategory == null) {
-            return "기타";
-        }
-        
-        // 1. 조회/안내
-        if (consultingCategory.equals("이용내역 안내") ||
-            consultingCategory.equals("한도 안내") ||
-            consultingCategory.equals("가상계좌 안내") ||
-            consultingCategory.equals("서비스 이용방법 안내") ||
-            consultingCategory.equals("결제대금 안내") ||
-            consultingCategory.equals("약관 안내") ||
-            consultingCategory.equals("상품 안내")) {
-            return "조회/안내";
-        }
-        
-        // 2. 즉시처리
-        if (consultingCategory.equals("도난/분실 신청/해제") ||
-            consultingCategory.equals("승인취소/매출취소 안내") ||
-            consultingCategory.equals("선결제/즉시출금") ||
-            consultingCategory.equals("연체대금 즉시출금") ||
-            consultingCategory.equals("결제일 안내/변경")) {
-            return "즉시처리";
-        }
-        
-        // 3. 변경/등록요청
-        if (consultingCategory.equals("한도상향 접수/처리") ||
-            consultingCategory.equals("결제계좌 안내/변경") ||
-            consultingCategory.equals("포인트/마일리지 전환등록") ||
-            consultingCategory.equals("증명서/확인서 발급") ||
-            consultingCategory.equals("가상계좌 예약/취소")) {
-            return "변경/등록요청";
-        }
-        
-        // 4. 금융상품/대출연계
-        if (consultingCategory.equals("단기카드대출 안내/실행") ||
-            consultingCategory.equals("장기카드대출 안내") ||
-            consultingCategory.equals("심사 진행사항 안내")) {
-            return "금융상품/대출연계";
-        }
-        
-        // 5. 정부/공공지원
-        if (consultingCategory.equals("정부지원 바우처 (등유, 임신 등)") ||
-            consultingCategory.equals("도시가스")) {
-            return "정부/공공지원";
-        }
-        
-        // 6. 이벤트/프로모션
-        if (consultingCategory.equals("이벤트 안내")) {
-            return "이벤트/프로모션";
-        }
-        
-        // 7. 약정관리
-        if (consultingCategory.equals("일부결제 대금이월약정 안내") ||
-            consultingCategory.equals("일부결제대금이월약정 해지")) {
-            return "약정관리";
-        }
-        
-        // 매핑되지 않은 카테고리는 기타로 분류
-        return "기타";
-    }
 }
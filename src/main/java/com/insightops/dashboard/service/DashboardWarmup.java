@@ -0,0 +1,148 @@
+package com.insightops.dashboard.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 기본 대시보드 화면 데이터 미리 계산 (캐시/큐브 적재, JPA 쿼리 및 코드 경로 예열)
+ * ApplicationRunner로 실행되므로 끝날 때까지 readiness가 ACCEPTING_TRAFFIC으로 바뀌지 않음
+ * 집계 스케줄러가 캐시를 비운 뒤에도 같은 목록으로 다시 실행
+ * 결과는 GET /actuator/warmup 과 dashboard.warmup 타이머로 확인
+ * DashboardService 조회는 실패해도 예외 대신 빈 목록/Mock을 반환하므로 결과가 캐시에 남았는지로 성공 여부를 판단
+ */
+@Component
+public class DashboardWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardWarmup.class);
+
+    // 오버뷰 카드 기간 (GET /api/dashboard/overview?period=)
+    private static final List<String> PERIODS = List.of("daily", "weekly", "monthly");
+
+    // 차트 API 단위 (화면은 granularity=month로 요청, 같은 캐시 키가 되도록 맞춤)
+    private static final String CHART_GRANULARITY = "month";
+
+    private final DashboardService dashboardService;
+    private final VocCubeService vocCubeService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private volatile Map<String, Object> lastRun = Map.of("status", "NOT_RUN");
+
+    public DashboardWarmup(DashboardService dashboardService,
+                           VocCubeService vocCubeService,
+                           MeterRegistry meterRegistry,
+                           @Value("${dashboard.warmup.enabled:true}") boolean enabled) {
+        this.dashboardService = dashboardService;
+        this.vocCubeService = vocCubeService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp("startup");
+    }
+
+    /**
+     * 기본 화면 목록을 순서대로 조회 - 항목별 실패는 기록만 하고 계속 진행
+     */
+    public synchronized void warmUp(String trigger) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Instant startedAt = Instant.now();
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.withDayOfMonth(1);
+
+        List<String> warmed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        // 큐브가 아직 없으면 먼저 적재 (이후 조회가 큐브 경로를 타도록)
+        if (vocCubeService.current() == null) {
+            step("cube", () -> {
+                vocCubeService.refresh();
+                return vocCubeService.current();
+            }, cube -> cube != null, warmed, failed);
+        }
+        for (String period : PERIODS) {
+            step("overview:" + period, () -> dashboardService.getOverview(period),
+                overview -> dashboardService.isOverviewCached(period), warmed, failed);
+        }
+        // 목록 조회는 실패 시 빈 목록을 반환하고 빈 목록은 캐시하지 않음
+        step("big-category-share:" + CHART_GRANULARITY,
+            () -> dashboardService.getBigCategoryShare(CHART_GRANULARITY, monthStart, today),
+            DashboardWarmup::notEmpty, warmed, failed);
+        step("total-series:" + CHART_GRANULARITY,
+            () -> dashboardService.getTotalSeries(CHART_GRANULARITY, monthStart, today),
+            DashboardWarmup::notEmpty, warmed, failed);
+        // 인사이트는 캐시하지 않고 테이블이 비어 있을 수 있으므로 JPA 경로 예열만 함
+        step("insights", dashboardService::getInsights, insights -> insights != null, warmed, failed);
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("dashboard.warmup")
+            .tag("trigger", trigger)
+            .tag("outcome", failed.isEmpty() ? "success" : "partial")
+            .description("기본 대시보드 화면 예열 시간")
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", failed.isEmpty() ? "COMPLETED" : "PARTIAL");
+        result.put("trigger", trigger);
+        result.put("startedAt", startedAt.toString());
+        result.put("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        result.put("warmed", warmed);
+        result.put("failed", failed);
+        lastRun = result;
+
+        logger.info("대시보드 예열 완료 ({}): {}ms, 성공 {}개, 실패 {}개",
+            trigger, TimeUnit.NANOSECONDS.toMillis(elapsed), warmed.size(), failed.size());
+    }
+
+    /**
+     * 항목 하나 조회 - 예외가 나거나 결과가 warmedIf를 만족하지 않으면(빈 목록, Mock 등) 실패로 기록
+     */
+    private <T> void step(String name, Supplier<T> call, Predicate<T> warmedIf,
+                          List<String> warmed, List<String> failed) {
+        try {
+            if (warmedIf.test(call.get())) {
+                warmed.add(name);
+                return;
+            }
+            logger.warn("대시보드 예열 실패 - {}: 조회 실패로 빈 결과/기본값 반환", name);
+        } catch (Exception e) {
+            logger.warn("대시보드 예열 실패 - {}: {}", name, e.getMessage());
+        }
+        failed.add(name);
+    }
+
+    private static boolean notEmpty(Collection<?> result) {
+        return result != null && !result.isEmpty();
+    }
+
+    /**
+     * 마지막 예열 결과 (actuator 노출용)
+     */
+    public Map<String, Object> getLastRun() {
+        return lastRun;
+    }
+}
@@ -0,0 +1,177 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.domain.DimSmallCategory;
+import com.insightops.dashboard.repository.DimSmallCategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 차원 값 -> 0부터 시작하는 int 코드 사전 (연령/성별은 고정 목록)
+ * 집계 시 문자열 키 맵 대신 코드로 인덱싱한 long 배열에 카운트하도록 하고,
+ * Small -> Big 카테고리 매핑은 smallToBig 배열 읽기 한 번으로 처리
+ * dim_small_category/dim_big_category를 기준으로 하고, 테이블에 없는 카테고리는 기본 매핑으로 채움
+ */
+@Component
+public class DimensionDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(DimensionDictionary.class);
+
+    public static final String OTHER = "기타";
+
+    private static final List<String> AGES = List.of("20", "30", "40", "50", "60");
+    private static final List<String> GENDERS = List.of("남자", "여자");
+
+    // 기본 매핑 (Dim 테이블이 비어 있거나 일부 카테고리가 없을 때 사용)
+    private static final Map<String, String> DEFAULT_SMALL_TO_BIG = new LinkedHashMap<>();
+
+    static {
+        group("조회/안내", List.of("이용내역 안내", "한도 안내", "가상계좌 안내", "서비스 이용방법 안내",
+            "결제대금 안내", "약관 안내", "상품 안내"));
+        group("즉시처리", List.of("도난/분실 신청/해제", "승인취소/매출취소 안내", "선결제/즉시출금",
+            "연체대금 즉시출금", "결제일 안내/변경"));
+        group("변경/등록요청", List.of("한도상향 접수/처리", "결제계좌 안내/변경", "포인트/마일리지 전환등록",
+            "증명서/확인서 발급", "가상계좌 예약/취소"));
+        group("금융상품/대출연계", List.of("단기카드대출 안내/실행", "장기카드대출 안내", "심사 진행사항 안내"));
+        group("정부/공공지원", List.of("정부지원 바우처 (등유, 임신 등)", "도시가스"));
+        group("이벤트/프로모션", List.of("이벤트 안내"));
+        group("약정관리", List.of("일부결제 대금이월약정 안내", "일부결제대금이월약정 해지"));
+    }
+
+    private static void group(String bigCategory, List<String> smallCategories) {
+        smallCategories.forEach(small -> DEFAULT_SMALL_TO_BIG.put(small, bigCategory));
+    }
+
+    private final DimSmallCategoryRepository dimSmallCategoryRepo;
+
+    private volatile Codes codes = Codes.build(DEFAULT_SMALL_TO_BIG);
+
+    public DimensionDictionary(DimSmallCategoryRepository dimSmallCategoryRepo) {
+        this.dimSmallCategoryRepo = dimSmallCategoryRepo;
+    }
+
+    /**
+     * 현재 코드 스냅샷 - 한 번의 집계 안에서는 같은 스냅샷을 계속 사용해야 코드가 섞이지 않음
+     */
+    public Codes current() {
+        return codes;
+    }
+
+    /**
+     * Small 카테고리 이름으로 Big 카테고리 이름 조회 (매핑되지 않은 카테고리는 기타)
+     */
+    public String toBigCategory(String consultingCategory) {
+        Codes snapshot = codes;
+        return snapshot.bigName(snapshot.bigCodeOf(consultingCategory));
+    }
+
+    /**
+     * Dim 테이블 기준으로 사전 재구성 (조회 실패 시 기존 사전 유지)
+     * 시작 시에는 예열(ApplicationRunner)보다 먼저 실행
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void reload() {
+        try {
+            Map<String, String> smallToBig = new LinkedHashMap<>();
+            for (DimSmallCategory small : dimSmallCategoryRepo.findAllWithBigCategory()) {
+                smallToBig.put(small.getName(), small.getBigCategory().getName());
+            }
+            int fromDim = smallToBig.size();
+            DEFAULT_SMALL_TO_BIG.forEach(smallToBig::putIfAbsent);
+
+            codes = Codes.build(smallToBig);
+            logger.info("차원 사전 적재: Small {}개 (Dim 테이블 {}개), Big {}개",
+                codes.smallCount(), fromDim, codes.bigCount());
+        } catch (Exception e) {
+            logger.warn("차원 사전 적재 실패, 기본 매핑 사용: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 차원 코드 스냅샷 (읽기 전용)
+     */
+    public static final class Codes {
+
+        private final Map<String, Integer> smallCodes;
+        private final String[] smallNames;
+        private final int[] smallToBig;
+        private final String[] bigNames;
+        private final int otherBig;
+
+        private Codes(Map<String, Integer> smallCodes, String[] smallNames, int[] smallToBig, String[] bigNames,
+                      int otherBig) {
+            this.smallCodes = smallCodes;
+            this.smallNames = smallNames;
+            this.smallToBig = smallToBig;
+            this.bigNames = bigNames;
+            this.otherBig = otherBig;
+        }
+
+        static Codes build(Map<String, String> smallToBigNames) {
+            Map<String, Integer> smallCodes = new HashMap<>();
+            Map<String, Integer> bigCodes = new LinkedHashMap<>();
+            String[] smallNames = new String[smallToBigNames.size()];
+            int[] smallToBig = new int[smallToBigNames.size()];
+
+            int small = 0;
+            for (Map.Entry<String, String> entry : smallToBigNames.entrySet()) {
+                smallCodes.put(entry.getKey(), small);
+                smallNames[small] = entry.getKey();
+                smallToBig[small] = bigCodes.computeIfAbsent(entry.getValue(), name -> bigCodes.size());
+                small++;
+            }
+            int otherBig = bigCodes.computeIfAbsent(OTHER, name -> bigCodes.size());
+            return new Codes(smallCodes, smallNames, smallToBig, bigCodes.keySet().toArray(new String[0]), otherBig);
+        }
+
+        public int smallCount() {
+            return smallNames.length;
+        }
+
+        public int bigCount() {
+            return bigNames.length;
+        }
+
+        /**
+         * Small 카테고리 코드 (사전에 없으면 -1)
+         */
+        public int smallCode(String name) {
+            Integer code = name != null ? smallCodes.get(name) : null;
+            return code != null ? code : -1;
+        }
+
+        public String smallName(int code) {
+            return smallNames[code];
+        }
+
+        /**
+         * Small 코드 -> Big 코드 (사전에 없는 Small은 기타)
+         */
+        public int bigCode(int smallCode) {
+            return smallCode >= 0 ? smallToBig[smallCode] : otherBig;
+        }
+
+        public int bigCodeOf(String smallName) {
+            return bigCode(smallCode(smallName));
+        }
+
+        public String bigName(int code) {
+            return bigNames[code];
+        }
+
+        public List<String> ages() {
+            return AGES;
+        }
+
+        public List<String> genders() {
+            return GENDERS;
+        }
+    }
+}
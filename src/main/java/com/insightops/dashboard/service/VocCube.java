@@ -0,0 +1,403 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.repository.AggByCategoryAgeGenderRepository.CubeRow;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 x 연령 x 성별 x 일자 건수 큐브 (읽기 전용 스냅샷)
+ * 일자별로 (카테고리, 연령, 성별) 셀을 이어 붙인 int 배열 하나에 저장
+ * offset = day * cellsPerDay + (category * ages + age) * genders + gender
+ * 갱신은 기존 스냅샷을 복사한 새 스냅샷을 만들어 교체하므로 조회는 잠금 없이 수행
+ *
+ * 전체/카테고리/연령/성별 단위 일별 누적합(prefix sum)을 함께 보관
+ * prefix[d]는 0 ~ d-1일의 합이므로 임의 기간 [from, to] 합계는 prefix[to + 1] - prefix[from] 두 번 읽기로 계산
+ */
+public final class VocCube {
+
+    // 연령/성별이 비어 있는 집계 행의 차원 값
+    private static final String UNKNOWN = "";
+
+    private final LocalDate firstDay;
+    private final int dayCount;          // firstDay부터 데이터가 있는 마지막 날까지 (없으면 0)
+    private final Dimension categories;
+    private final Dimension ages;
+    private final Dimension genders;
+    private final int[] counts;
+
+    // 누적합 (길이 dayCount + 1), 차원별 배열은 [값 인덱스][일]
+    private final long[] totalPrefix;
+    private final long[][] categoryPrefix;
+    private final long[][] agePrefix;
+    private final long[][] genderPrefix;
+
+    private VocCube(LocalDate firstDay, int dayCount, Dimension categories, Dimension ages, Dimension genders,
+                    int[] counts) {
+        this.firstDay = firstDay;
+        this.dayCount = dayCount;
+        this.categories = categories;
+        this.ages = ages;
+        this.genders = genders;
+        this.counts = counts;
+        this.totalPrefix = new long[dayCount + 1];
+        this.categoryPrefix = new long[categories.size()][dayCount + 1];
+        this.agePrefix = new long[ages.size()][dayCount + 1];
+        this.genderPrefix = new long[genders.size()][dayCount + 1];
+    }
+
+    public static VocCube empty(LocalDate firstDay) {
+        return new VocCube(firstDay, 0, new Dimension(), new Dimension(), new Dimension(), new int[0]);
+    }
+
+    /**
+     * from~to(포함) 전체 건수 - 누적합 두 번 읽기 (큐브 범위 밖의 날짜는 0으로 계산)
+     */
+    public long total(LocalDate from, LocalDate to) {
+        return rangeSum(totalPrefix, from, to);
+    }
+
+    private long rangeSum(long[] prefix, LocalDate from, LocalDate to) {
+        int start = (int) Math.max(0, ChronoUnit.DAYS.between(firstDay, from));
+        int end = (int) Math.min(dayCount - 1L, ChronoUnit.DAYS.between(firstDay, to));
+        return start > end ? 0 : prefix[end + 1] - prefix[start];
+    }
+
+    public LocalDate firstDay() {
+        return firstDay;
+    }
+
+    /**
+     * 데이터가 적재된 마지막 날 (적재된 데이터가 없으면 firstDay 전날)
+     */
+    public LocalDate lastDay() {
+        return firstDay.plusDays(dayCount - 1L);
+    }
+
+    public boolean covers(LocalDate from, LocalDate to) {
+        return !from.isBefore(firstDay) && !to.isAfter(lastDay());
+    }
+
+    public int dayCount() {
+        return dayCount;
+    }
+
+    public List<String> categories() {
+        return categories.values();
+    }
+
+    /**
+     * 필터 조합에 해당하는 셀 묶음 (null 또는 빈 목록은 전체)
+     * 큐브에 없는 필터 값이 하나라도 있으면 null - 큐브가 모르는 값의 건수를 0으로 답하지 않도록 호출 측이 원천 조회
+     */
+    public Slice slice(Collection<String> categoryFilter, Collection<String> ageFilter, Collection<String> genderFilter) {
+        boolean byCategory = categoryFilter != null && !categoryFilter.isEmpty();
+        boolean byAge = ageFilter != null && !ageFilter.isEmpty();
+        boolean byGender = genderFilter != null && !genderFilter.isEmpty();
+        int[] c = categories.select(categoryFilter);
+        int[] a = ages.select(ageFilter);
+        int[] g = genders.select(genderFilter);
+        if (c == null || a == null || g == null) {
+            return null;
+        }
+        
+        // 필터가 없거나 한 차원만 걸린 경우 해당 차원 누적합으로 바로 계산
+        int filtered = (byCategory ? 1 : 0) + (byAge ? 1 : 0) + (byGender ? 1 : 0);
+        if (filtered == 0) {
+            return new Slice(null, new long[][] {totalPrefix});
+        }
+        if (filtered == 1) {
+            long[][] marginal = byCategory ? categoryPrefix : byAge ? agePrefix : genderPrefix;
+            int[] selected = byCategory ? c : byAge ? a : g;
+            long[][] rows = new long[selected.length][];
+            for (int i = 0; i < selected.length; i++) {
+                rows[i] = marginal[selected[i]];
+            }
+            return new Slice(null, rows);
+        }
+
+        int[] cells = new int[c.length * a.length * g.length];
+        int i = 0;
+        for (int ci : c) {
+            for (int ai : a) {
+                for (int gi : g) {
+                    cells[i++] = cellIndex(ci, ai, gi);
+                }
+            }
+        }
+        return new Slice(cells, null);
+    }
+
+    /**
+     * 기간 내 카테고리별 건수 (연령/성별 필터 적용, 건수 0인 카테고리 제외)
+     * 큐브에 없는 연령/성별 값이 있으면 null
+     */
+    public Map<String, Long> countByCategory(LocalDate from, LocalDate to,
+                                             Collection<String> ageFilter, Collection<String> genderFilter) {
+        int[] a = ages.select(ageFilter);
+        int[] g = genders.select(genderFilter);
+        if (a == null || g == null) {
+            return null;
+        }
+        long[] perCategory = new long[categories.size()];
+
+        int start = (int) Math.max(0, ChronoUnit.DAYS.between(firstDay, from));
+        int end = (int) Math.min(dayCount - 1L, ChronoUnit.DAYS.between(firstDay, to));
+        int cellsPerDay = cellsPerDay();
+        for (int day = start; day <= end; day++) {
+            int base = day * cellsPerDay;
+            for (int c = 0; c < perCategory.length; c++) {
+                for (int ai : a) {
+                    for (int gi : g) {
+                        perCategory[c] += counts[base + cellIndex(c, ai, gi)];
+                    }
+                }
+            }
+        }
+
+        Map<String, Long> result = new HashMap<>();
+        for (int c = 0; c < perCategory.length; c++) {
+            if (perCategory[c] > 0) {
+                result.put(categories.valueAt(c), perCategory[c]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지정한 날짜들의 데이터를 rows로 교체한 새 스냅샷 생성
+     * 차원 값은 기존 순서를 유지하고 새 값만 뒤에 추가, 기간은 rows의 마지막 날까지 늘어남
+     * newFirstDay 이전 날짜는 버림
+     */
+    VocCube merge(LocalDate newFirstDay, Set<LocalDate> replacedDays, List<CubeRow> rows) {
+        Dimension newCategories = categories.copy();
+        Dimension newAges = ages.copy();
+        Dimension newGenders = genders.copy();
+        LocalDate newLastDay = lastDay();
+        for (CubeRow row : rows) {
+            newCategories.indexOf(row.getConsultingCategory(), true);
+            newAges.indexOf(row.getClientAge(), true);
+            newGenders.indexOf(row.getClientGender(), true);
+            if (row.getBucketStart().isAfter(newLastDay)) {
+                newLastDay = row.getBucketStart();
+            }
+        }
+
+        int newDayCount = (int) Math.max(0, ChronoUnit.DAYS.between(newFirstDay, newLastDay) + 1);
+        int newCellsPerDay = newCategories.size() * newAges.size() * newGenders.size();
+        int[] newCounts = new int[Math.multiplyExact(newDayCount, newCellsPerDay)];
+        VocCube next = new VocCube(newFirstDay, newDayCount, newCategories, newAges, newGenders, newCounts);
+
+        // 교체 대상이 아닌 날짜는 기존 값 복사 (기존 차원 인덱스는 그대로이므로 새 stride로만 다시 배치)
+        int cellsPerDay = cellsPerDay();
+        for (int day = 0; day < dayCount; day++) {
+            LocalDate date = firstDay.plusDays(day);
+            int target = next.dayIndex(date);
+            if (target < 0 || replacedDays.contains(date)) {
+                continue;
+            }
+            int base = day * cellsPerDay;
+            int targetBase = target * newCellsPerDay;
+            for (int c = 0; c < categories.size(); c++) {
+                for (int a = 0; a < ages.size(); a++) {
+                    for (int g = 0; g < genders.size(); g++) {
+                        newCounts[targetBase + next.cellIndex(c, a, g)] = counts[base + cellIndex(c, a, g)];
+                    }
+                }
+            }
+        }
+
+        for (CubeRow row : rows) {
+            int day = next.dayIndex(row.getBucketStart());
+            if (day < 0) {
+                continue;
+            }
+            int cell = next.cellIndex(newCategories.indexOf(row.getConsultingCategory(), false),
+                newAges.indexOf(row.getClientAge(), false),
+                newGenders.indexOf(row.getClientGender(), false));
+            newCounts[day * newCellsPerDay + cell] += row.getCnt() != null ? row.getCnt().intValue() : 0;
+        }
+
+        // 시작일이 같으면 바뀐 가장 이른 날 이전의 누적합은 그대로 재사용
+        int firstChanged = 0;
+        if (newFirstDay.equals(firstDay)) {
+            firstChanged = dayCount;
+            for (LocalDate day : replacedDays) {
+                int index = next.dayIndex(day);
+                if (index >= 0) {
+                    firstChanged = Math.min(firstChanged, index);
+                }
+            }
+            firstChanged = Math.min(firstChanged, newDayCount);
+        }
+        next.buildPrefix(this, firstChanged);
+        return next;
+    }
+
+    /**
+     * 누적합 계산 - fromDay 이전은 previous의 값을 복사하고 이후만 다시 계산
+     */
+    private void buildPrefix(VocCube previous, int fromDay) {
+        for (int day = 1; day <= fromDay; day++) {
+            totalPrefix[day] = previous.totalPrefix[day];
+            copyPrefix(previous.categoryPrefix, categoryPrefix, day);
+            copyPrefix(previous.agePrefix, agePrefix, day);
+            copyPrefix(previous.genderPrefix, genderPrefix, day);
+        }
+
+        int cellsPerDay = cellsPerDay();
+        for (int day = fromDay; day < dayCount; day++) {
+            int base = day * cellsPerDay;
+            long dayTotal = 0;
+            for (int c = 0; c < categories.size(); c++) {
+                long categoryTotal = 0;
+                for (int a = 0; a < ages.size(); a++) {
+                    for (int g = 0; g < genders.size(); g++) {
+                        int value = counts[base + cellIndex(c, a, g)];
+                        categoryTotal += value;
+                        agePrefix[a][day + 1] += value;
+                        genderPrefix[g][day + 1] += value;
+                    }
+                }
+                categoryPrefix[c][day + 1] = categoryPrefix[c][day] + categoryTotal;
+                dayTotal += categoryTotal;
+            }
+            for (long[] prefix : agePrefix) {
+                prefix[day + 1] += prefix[day];
+            }
+            for (long[] prefix : genderPrefix) {
+                prefix[day + 1] += prefix[day];
+            }
+            totalPrefix[day + 1] = totalPrefix[day] + dayTotal;
+        }
+    }
+
+    private static void copyPrefix(long[][] from, long[][] to, int day) {
+        for (int i = 0; i < from.length; i++) {
+            to[i][day] = from[i][day];
+        }
+    }
+
+    private int cellsPerDay() {
+        return categories.size() * ages.size() * genders.size();
+    }
+
+    private int cellIndex(int category, int age, int gender) {
+        return (category * ages.size() + age) * genders.size() + gender;
+    }
+
+    private int dayIndex(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(firstDay, date);
+        return day < 0 || day >= dayCount ? -1 : (int) day;
+    }
+
+    /**
+     * 필터 조합 하나에 대한 조회 경로 - 같은 필터로 여러 기간을 셀 때 재사용
+     * 누적합 행이 있으면 O(1), 두 차원 이상이 걸렸으면 셀 오프셋 목록을 일자별로 합산
+     */
+    public final class Slice {
+
+        private final int[] cells;
+        private final long[][] prefixRows;
+
+        private Slice(int[] cells, long[][] prefixRows) {
+            this.cells = cells;
+            this.prefixRows = prefixRows;
+        }
+
+        /**
+         * from~to(포함) 건수 합계, 큐브 범위 밖의 날짜는 0으로 계산
+         */
+        public long count(LocalDate from, LocalDate to) {
+            if (prefixRows != null) {
+                long sum = 0;
+                for (long[] prefix : prefixRows) {
+                    sum += rangeSum(prefix, from, to);
+                }
+                return sum;
+            }
+            int start = (int) Math.max(0, ChronoUnit.DAYS.between(firstDay, from));
+            int end = (int) Math.min(dayCount - 1L, ChronoUnit.DAYS.between(firstDay, to));
+            int cellsPerDay = cellsPerDay();
+            long sum = 0;
+            for (int day = start; day <= end; day++) {
+                int base = day * cellsPerDay;
+                for (int cell : cells) {
+                    sum += counts[base + cell];
+                }
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * 차원 값 사전 (값 -> 0부터 시작하는 인덱스, 추가만 가능)
+     */
+    private static final class Dimension {
+
+        private final List<String> values;
+        private final Map<String, Integer> index;
+
+        Dimension() {
+            this(new ArrayList<>(), new HashMap<>());
+        }
+
+        private Dimension(List<String> values, Map<String, Integer> index) {
+            this.values = values;
+            this.index = index;
+        }
+
+        Dimension copy() {
+            return new Dimension(new ArrayList<>(values), new HashMap<>(index));
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<String> values() {
+            return List.copyOf(values);
+        }
+
+        String valueAt(int index) {
+            return values.get(index);
+        }
+
+        int indexOf(String value, boolean add) {
+            String key = value != null ? value : UNKNOWN;
+            Integer existing = index.get(key);
+            if (existing != null || !add) {
+                return existing != null ? existing : -1;
+            }
+            values.add(key);
+            index.put(key, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        /**
+         * 필터 값의 인덱스 목록 (null 또는 빈 목록은 전체), 사전에 없는 값이 있으면 null
+         */
+        int[] select(Collection<String> filter) {
+            if (filter == null || filter.isEmpty()) {
+                int[] all = new int[values.size()];
+                for (int i = 0; i < all.length; i++) {
+                    all[i] = i;
+                }
+                return all;
+            }
+            int[] selected = filter.stream().mapToInt(value -> indexOf(value, false)).distinct().toArray();
+            for (int i : selected) {
+                if (i < 0) {
+                    return null;
+                }
+            }
+            return selected;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.repository.AggByCategoryAgeGenderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * agg_by_category_age_gender 일별 집계를 메모리에 올린 VocCube 관리
+ * 시작 시 보존 기간 전체를 적재하고, 이후에는 last_updated 기준으로 바뀐 날짜만 다시 읽어 교체
+ * 큐브가 아직 없거나 요청 기간을 덮지 못하면 호출 측이 기존 조회 경로를 사용
+ */
+@Service
+public class VocCubeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VocCubeService.class);
+
+    private final AggByCategoryAgeGenderRepository aggCategoryRepo;
+    private final int retentionDays;
+    private final Timer fullLoadTimer;
+    private final Timer incrementalTimer;
+
+    private volatile VocCube cube;
+    private Instant watermark;
+
+    public VocCubeService(AggByCategoryAgeGenderRepository aggCategoryRepo,
+                          @Value("${dashboard.cube.retention-days:400}") int retentionDays,
+                          MeterRegistry meterRegistry) {
+        this.aggCategoryRepo = aggCategoryRepo;
+        this.retentionDays = retentionDays;
+        this.fullLoadTimer = refreshTimer("full", meterRegistry);
+        this.incrementalTimer = refreshTimer("incremental", meterRegistry);
+        Gauge.builder("dashboard.cube.days", this, s -> s.cube != null ? s.cube.dayCount() : 0)
+            .description("인메모리 큐브에 적재된 일수")
+            .register(meterRegistry);
+    }
+
+    private static Timer refreshTimer(String type, MeterRegistry meterRegistry) {
+        return Timer.builder("dashboard.cube.refresh")
+            .tag("type", type)
+            .description("인메모리 큐브 적재 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 큐브 스냅샷 (아직 적재 전이면 null)
+     */
+    public VocCube current() {
+        return cube;
+    }
+
+    /**
+     * from~to 전체를 큐브로 답할 수 있으면 스냅샷, 아니면 null
+     */
+    public VocCube covering(LocalDate from, LocalDate to) {
+        VocCube snapshot = cube;
+        return snapshot != null && snapshot.covers(from, to) ? snapshot : null;
+    }
+
+    /**
+     * 기간 유형별 집계 창 길이 (daily 1일, weekly 7일, monthly 30일, 그 외 -1)
+     */
+    public static int windowDays(String period) {
+        return switch (period != null ? period.toLowerCase() : "") {
+            case "daily" -> 1;
+            case "weekly" -> 7;
+            case "monthly" -> 30;
+            default -> -1;
+        };
+    }
+
+    /**
+     * baseDate로 끝나는 기간 건수와 바로 앞 같은 길이 기간 건수 {current, previous}
+     * 큐브가 두 기간을 모두 덮지 못하거나 기간 유형을 모르면 null
+     */
+    public long[] periodTotals(String period, LocalDate baseDate) {
+        int window = windowDays(period);
+        if (window < 0) {
+            return null;
+        }
+        LocalDate currentFrom = baseDate.minusDays(window - 1L);
+        LocalDate previousFrom = currentFrom.minusDays(window);
+        VocCube snapshot = covering(previousFrom, baseDate);
+        if (snapshot == null) {
+            return null;
+        }
+        return new long[] {
+            snapshot.total(currentFrom, baseDate),
+            snapshot.total(previousFrom, currentFrom.minusDays(1))
+        };
+    }
+
+    /**
+     * 주기적 갱신 - 최초 실행 또는 보존 기간 시작일이 일주일 이상 밀리면 전체 적재, 그 외에는 증분
+     */
+    @Scheduled(initialDelayString = "${dashboard.cube.initial-delay:PT0S}",
+               fixedDelayString = "${dashboard.cube.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("인메모리 큐브 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void refresh() {
+        LocalDate retentionStart = LocalDate.now().minusDays(retentionDays);
+        if (cube == null || cube.firstDay().isBefore(retentionStart.minusDays(7))) {
+            loadAll(retentionStart);
+        } else {
+            loadChanged();
+        }
+    }
+
+    private void loadAll(LocalDate retentionStart) {
+        long start = System.nanoTime();
+        // 적재 중 들어온 변경은 다음 증분 갱신에서 다시 읽도록 적재 전 시점을 기준으로 삼음
+        Instant loadWatermark = aggCategoryRepo.findLastUpdated().orElse(Instant.EPOCH);
+        var rows = aggCategoryRepo.findCubeRows(retentionStart, LocalDate.now());
+
+        cube = VocCube.empty(retentionStart).merge(retentionStart, Collections.emptySet(), rows);
+        watermark = loadWatermark;
+        fullLoadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        logger.info("인메모리 큐브 전체 적재: {} ~ {}, {}행", cube.firstDay(), cube.lastDay(), rows.size());
+    }
+
+    private void loadChanged() {
+        long start = System.nanoTime();
+        Instant loadWatermark = aggCategoryRepo.findLastUpdated().orElse(Instant.EPOCH);
+        // last_updated가 같은 행을 놓치지 않도록 경계 포함 조회 (마지막 변경 날짜는 매번 다시 읽힘)
+        List<LocalDate> changedDays = aggCategoryRepo.findDaysUpdatedSince(watermark);
+        if (changedDays.isEmpty()) {
+            return;
+        }
+
+        Set<LocalDate> days = new HashSet<>(changedDays);
+        LocalDate from = changedDays.stream().min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = changedDays.stream().max(LocalDate::compareTo).orElseThrow();
+        var rows = aggCategoryRepo.findCubeRows(from, to).stream()
+            .filter(row -> days.contains(row.getBucketStart()))
+            .toList();
+
+        VocCube snapshot = cube;
+        cube = snapshot.merge(snapshot.firstDay(), days, rows);
+        watermark = loadWatermark;
+        incrementalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        logger.debug("인메모리 큐브 증분 갱신: {}일, {}행", days.size(), rows.size());
+    }
+}
@@ -1,18 +1,31 @@
 package com.insightops.dashboard.service;
 
+import com.insightops.dashboard.client.VoicebotCountBatcher;
 import com.insightops.dashboard.client.VoicebotServiceClient;
 import com.insightops.dashboard.dto.FilterRequest;
 import com.insightops.dashboard.dto.TimeSeriesItem;
 import com.insightops.dashboard.dto.TimeSeriesResponse;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.AsyncRetryExecutor;
+import com.insightops.dashboard.resilience.RequestDeadline;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,166 +36,178 @@ import org.slf4j.LoggerFactory;
 public class VocDataService {
     
     private static final Logger logger = LoggerFactory.getLogger(VocDataService.class);
-    private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long RETRY_DELAY_MS = 1000;
 
     private final VoicebotServiceClient voicebotClient;
+    private final VoicebotCountBatcher countBatcher;
+    private final AsyncRetryExecutor retryExecutor;
+    private final ThreadPoolTaskExecutor breakdownExecutor;
+    private final Duration breakdownTimeout;
+    private final Duration batchCountsTimeout;
+    private final VocCubeService vocCubeService;
+    private final DimensionDictionary dimensionDictionary;
 
-    public VocDataService(VoicebotServiceClient voicebotClient) {
+    public VocDataService(VoicebotServiceClient voicebotClient,
+                          VoicebotCountBatcher countBatcher,
+                          VocCubeService vocCubeService,
+                          DimensionDictionary dimensionDictionary,
+                          AsyncRetryExecutor retryExecutor,
+                          @Qualifier("breakdownExecutor") ThreadPoolTaskExecutor breakdownExecutor,
+                          @Value("${dashboard.breakdown.timeout:8s}") Duration breakdownTimeout,
+                          @Value("${dashboard.batch-counts.timeout:5s}") Duration batchCountsTimeout) {
         this.voicebotClient = voicebotClient;
+        this.countBatcher = countBatcher;
+        this.vocCubeService = vocCubeService;
+        this.dimensionDictionary = dimensionDictionary;
+        this.retryExecutor = retryExecutor;
+        this.breakdownExecutor = breakdownExecutor;
+        this.breakdownTimeout = breakdownTimeout;
+        this.batchCountsTimeout = batchCountsTimeout;
     }
 
     /**
      * Daily 집계 데이터 (최근 1일) - API 호출 with Retry
      */
     public Long getDailyVocCount(LocalDate date) {
-        return executeWithRetry(() -> {
-            Map<String, Object> request = new HashMap<>();
-            request.put("period", "daily");
-            request.put("baseDate", date.toString());
-            
-            Map<String, Object> response = voicebotClient.getVocCountSummary(request);
-            if (response != null && response.get("data") != null) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
-                Object count = data.get("currentCount");
-                return count != null ? Long.valueOf(count.toString()) : 0L;
-            }
-            return 0L;
-        }, "Daily VoC count", 0L);
+        return fetchCurrentCount("Daily VoC count", "daily", date);
     }
     
     /**
      * Weekly 집계 데이터 (최근 7일) - API 호출 with Retry
      */
     public Long getWeeklyVocCount(LocalDate endDate) {
-        return executeWithRetry(() -> {
-            Map<String, Object> request = new HashMap<>();
-            request.put("period", "weekly");
-            request.put("baseDate", endDate.toString());
-            
-            Map<String, Object> response = voicebotClient.getVocCountSummary(request);
-            if (response != null && response.get("data") != null) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
-                Object count = data.get("currentCount");
-                return count != null ? Long.valueOf(count.toString()) : 0L;
-            }
-            return 0L;
-        }, "Weekly VoC count", 0L);
+        return fetchCurrentCount("Weekly VoC count", "weekly", endDate);
     }
     
     /**
      * Monthly 집계 데이터 (최근 30일) - API 호출 with Retry
      */
     public Long getMonthlyVocCount(LocalDate endDate) {
-        return executeWithRetry(() -> {
-            Map<String, Object> request = new HashMap<>();
-            request.put("period", "monthly");
-            request.put("baseDate", endDate.toString());
-            
-            Map<String, Object> response = voicebotClient.getVocCountSummary(request);
-            if (response != null && response.get("data") != null) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
-                Object count = data.get("currentCount");
-                return count != null ? Long.valueOf(count.toString()) : 0L;
-            }
-            return 0L;
-        }, "Monthly VoC count", 0L);
+        return fetchCurrentCount("Monthly VoC count", "monthly", endDate);
+    }
+
+    /**
+     * 일별 건수 - 재시도 후에도 조회하지 못하면 null (0건과 구분해야 하는 집계 저장용)
+     */
+    public Long findDailyVocCount(LocalDate date) {
+        return retryExecutor.executeAndWait("Daily VoC count", () -> {
+            VocCountSummary summary = voicebotClient.fetchVocCountSummary(periodRequest("daily", date));
+            return summary.available() ? summary.currentCount() : null;
+        }, null);
+    }
+
+    private long fetchCurrentCount(String operationName, String period, LocalDate baseDate) {
+        return retryExecutor.executeAndWait(operationName,
+            () -> voicebotClient.fetchVocCountSummary(periodRequest(period, baseDate)).currentCount(), 0L);
+    }
+    
+    private Map<String, Object> periodRequest(String period, LocalDate baseDate) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("period", period);
+        request.put("baseDate", baseDate.toString());
+        return request;
     }
 
     /**
      * Period별 VoC 건수 조회 (API 호출)
      */
     public Map<String, Object> getPeriodCountSummary(String period, LocalDate baseDate) {
-        try {
-            Map<String, Object> request = new HashMap<>();
-            request.put("period", period);
-            request.put("baseDate", baseDate.toString());
-            
-            return voicebotClient.getVocCountSummary(request);
-        } catch (Exception e) {
-            System.err.println(period + " VoC count summary API 호출 실패: " + e.getMessage());
-            
-            // 실패 시 기본값 반환
-            Map<String, Object> fallback = new HashMap<>();
-            Map<String, Object> data = new HashMap<>();
-            data.put("period", period);
-            data.put("baseDate", baseDate.toString());
-            data.put("currentCount", 0L);
-            data.put("previousCount", 0L);
-            data.put("deltaPercent", 0.0);
-            fallback.put("success", false);
-            fallback.put("data", data);
-            return fallback;
-        }
+        long[] totals = vocCubeService.periodTotals(period, baseDate);
+        VocCountSummary summary = totals != null ? null
+            : voicebotClient.getVocCountSummary(periodRequest(period, baseDate));
+        long currentCount = totals != null ? totals[0] : summary.currentCount();
+        long previousCount = totals != null ? totals[1] : summary.previousCount();
+        
+        // 실패 시에도 같은 형태로 0건 반환
+        Map<String, Object> data = new HashMap<>();
+        data.put("period", period);
+        data.put("baseDate", baseDate.toString());
+        data.put("currentCount", currentCount);
+        data.put("previousCount", previousCount);
+        data.put("deltaPercent", deltaPercent(currentCount, previousCount));
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", totals != null || summary.available());
+        result.put("data", data);
+        return result;
     }
 
     /**
      * 고급 집계: Period별 비교 데이터 조회
      */
     public Map<String, Object> getPeriodComparison(String period, LocalDate baseDate) {
-        return executeWithRetry(() -> {
-            Map<String, Object> request = new HashMap<>();
-            request.put("period", period);
-            request.put("baseDate", baseDate.toString());
-            
-            Map<String, Object> response = voicebotClient.getVocCountSummary(request);
-            if (response != null && response.get("data") != null) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
-                
-                // 추가 분석 데이터 계산
-                Long currentCount = Long.valueOf(data.get("currentCount").toString());
-                Long previousCount = Long.valueOf(data.get("previousCount").toString());
-                
-                // 변화율 계산
-                double deltaPercent = previousCount > 0 ? 
-                    ((currentCount - previousCount) * 100.0 / previousCount) : 0.0;
-                
-                // 트렌드 분석
-                String trend = calculateTrend(currentCount, previousCount);
-                
-                data.put("deltaPercent", deltaPercent);
-                data.put("trend", trend);
-                data.put("analysis", generateTrendAnalysis(currentCount, previousCount, deltaPercent));
-                
-                return data;
+        return getPeriodComparisonAsync(period, baseDate).join();
+    }
+    
+    /**
+     * 고급 집계: Period별 비교 데이터 비동기 조회 (재시도 포함)
+     * 큐브가 현재/이전 기간을 모두 덮으면 외부 호출 없이 완료된 결과 반환
+     */
+    public CompletableFuture<Map<String, Object>> getPeriodComparisonAsync(String period, LocalDate baseDate) {
+        long[] totals = vocCubeService.periodTotals(period, baseDate);
+        if (totals != null) {
+            return CompletableFuture.completedFuture(comparisonData(period, baseDate, totals[0], totals[1]));
+        }
+        
+        return retryExecutor.execute("Period comparison", () -> {
+            VocCountSummary summary = voicebotClient.fetchVocCountSummary(periodRequest(period, baseDate));
+            if (!summary.available()) {
+                return new HashMap<>();
             }
-            return new HashMap<>();
-        }, "Period comparison", new HashMap<>());
+            return comparisonData(period, baseDate, summary.currentCount(), summary.previousCount());
+        }, new HashMap<>());
+    }
+    
+    private Map<String, Object> comparisonData(String period, LocalDate baseDate, long currentCount, long previousCount) {
+        // 변화율 계산
+        double deltaPercent = deltaPercent(currentCount, previousCount);
+        
+        Map<String, Object> data = new HashMap<>();
+        data.put("period", period);
+        data.put("baseDate", baseDate.toString());
+        data.put("currentCount", currentCount);
+        data.put("previousCount", previousCount);
+        data.put("deltaPercent", deltaPercent);
+        data.put("trend", calculateTrend(currentCount, previousCount));
+        data.put("analysis", generateTrendAnalysis(currentCount, previousCount, deltaPercent));
+        return data;
     }
     
     /**
      * 배치 집계: 여러 기간의 데이터를 한번에 조회
+     * 세 기간을 upstream 풀에서 병렬 조회하고, 제한 시간 안에 끝나지 않은 기간만 빈 결과로 응답 (재조회 없음)
      */
     public Map<String, Map<String, Object>> getBatchPeriodCounts(LocalDate baseDate) {
-        Map<String, Map<String, Object>> results = new HashMap<>();
-        
-        // 병렬로 모든 기간 조회
-        CompletableFuture<Map<String, Object>> dailyFuture = CompletableFuture.supplyAsync(() -> 
-            getPeriodComparison("daily", baseDate));
-        CompletableFuture<Map<String, Object>> weeklyFuture = CompletableFuture.supplyAsync(() -> 
-            getPeriodComparison("weekly", baseDate));
-        CompletableFuture<Map<String, Object>> monthlyFuture = CompletableFuture.supplyAsync(() -> 
-            getPeriodComparison("monthly", baseDate));
+        Map<String, CompletableFuture<Map<String, Object>>> futures = new LinkedHashMap<>();
+        for (String period : List.of("daily", "weekly", "monthly")) {
+            futures.put(period, getPeriodComparisonAsync(period, baseDate));
+        }
         
         try {
-            results.put("daily", dailyFuture.get(5, TimeUnit.SECONDS));
-            results.put("weekly", weeklyFuture.get(5, TimeUnit.SECONDS));
-            results.put("monthly", monthlyFuture.get(5, TimeUnit.SECONDS));
-        } catch (Exception e) {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture<?>[]::new))
+                .get(RequestDeadline.cap(batchCountsTimeout).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            RequestDeadline.checkExpired();
+            logger.warn("배치 집계 조회 시간 초과 ({}), 완료된 기간만 반환", batchCountsTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // getPeriodComparisonAsync는 기본값으로 완료되므로 발생하지 않음
             logger.error("배치 집계 조회 실패: {}", e.getMessage());
-            // 실패한 경우 개별 조회로 Fallback
-            results.put("daily", getPeriodComparison("daily", baseDate));
-            results.put("weekly", getPeriodComparison("weekly", baseDate));
-            results.put("monthly", getPeriodComparison("monthly", baseDate));
         }
         
+        Map<String, Map<String, Object>> results = new HashMap<>();
+        futures.forEach((period, future) -> results.put(period, future.getNow(new HashMap<>())));
         return results;
     }
     
+    private double deltaPercent(long current, long previous) {
+        return previous > 0 ? ((current - previous) * 100.0 / previous) : 0.0;
+    }
+    
     /**
      * 트렌드 계산
      */
-    private String calculateTrend(Long current, Long previous) {
+    private String calculateTrend(long current, long previous) {
         if (previous == 0) return "NEW";
         
         double change = ((current - previous) * 100.0 / previous);
@@ -197,7 +222,7 @@ public class VocDataService {
     /**
      * 트렌드 분석 텍스트 생성
      */
-    private String generateTrendAnalysis(Long current, Long previous, double deltaPercent) {
+    private String generateTrendAnalysis(long current, long previous, double deltaPercent) {
         if (previous == 0) {
             return "새로운 데이터입니다.";
         }
@@ -209,55 +234,42 @@ public class VocDataService {
         return String.format("이전 기간 대비 %s %s (%.1f%%)", magnitude, direction, deltaPercent);
     }
     
-    /**
-     * Retry 로직이 포함된 실행 메서드
-     */
-    private <T> T executeWithRetry(java.util.function.Supplier<T> operation, String operationName, T defaultValue) {
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                T result = operation.get();
-                if (attempt > 1) {
-                    logger.info("{} 성공 (시도 {}회)", operationName, attempt);
-                }
-                return result;
-            } catch (Exception e) {
-                lastException = e;
-                logger.warn("{} 실패 (시도 {}/{}): {}", operationName, attempt, MAX_RETRY_ATTEMPTS, e.getMessage());
-                
-                if (attempt < MAX_RETRY_ATTEMPTS) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS * attempt); // 지수 백오프
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-            }
-        }
-        
-        logger.error("{} 최종 실패, 기본값 반환: {}", operationName, lastException != null ? lastException.getMessage() : "Unknown error");
-        return defaultValue;
-    }
-    
     /**
      * 시계열 데이터 집계 (필터링 지원)
      */
     public TimeSeriesResponse getTimeSeriesData(FilterRequest filter) {
-        return executeWithRetry(() -> {
+        // 개별 호출 단위로만 재시도하고 시리즈 전체는 재시도하지 않음 (재시도 중첩 방지)
+        try {
             // 기간별 날짜 범위 생성
             List<LocalDate> dateRange = generateDateRange(filter.startDate(), filter.endDate(), filter.period());
             
-            // 각 날짜별로 데이터 조회 및 집계
-            List<TimeSeriesItem> timeSeriesData = new ArrayList<>();
+            // 인메모리 큐브가 시리즈 전체 기간을 덮고 필터 값을 모두 알면 큐브에서 계산,
+            // 아니면 시리즈 전체를 묶음 조회 (벌크 API 또는 제한된 병렬 호출) - 한 시리즈에 두 출처를 섞지 않음
+            long[] counts = new long[dateRange.size()];
+            String status = TimeSeriesResponse.STATUS_OK;
+            VocCube.Slice slice = cubeSlice(filter);
             
-            for (LocalDate date : dateRange) {
-                Long count = getFilteredCount(date, filter);
-                
+            if (slice != null) {
+                for (int i = 0; i < dateRange.size(); i++) {
+                    LocalDate bucketEnd = i + 1 < dateRange.size() ? dateRange.get(i + 1).minusDays(1) : filter.endDate();
+                    counts[i] = slice.count(dateRange.get(i), bucketEnd);
+                }
+            } else if (!dateRange.isEmpty()) {
+                List<Map<String, Object>> requests = new ArrayList<>(dateRange.size());
+                for (LocalDate bucketStart : dateRange) {
+                    requests.add(buildFilteredCountRequest(bucketStart, filter));
+                }
+                VoicebotCountBatcher.Counts fetched = countBatcher.fetchCurrentCounts(requests);
+                counts = fetched.values();
+                status = seriesStatus(fetched);
+            }
+            
+            List<TimeSeriesItem> timeSeriesData = new ArrayList<>(dateRange.size());
+            
+            for (int i = 0; i < dateRange.size(); i++) {
                 TimeSeriesItem item = new TimeSeriesItem(
-                    date, 
-                    count, 
+                    dateRange.get(i), 
+                    counts[i], 
                     filter.period(),
                     filter.hasCategoryFilter() ? String.join(",", filter.categories()) : null,
                     filter.hasAgeGroupFilter() ? String.join(",", filter.ageGroups()) : null,
@@ -273,74 +285,126 @@ public class VocDataService {
             // 페이지네이션 적용
             List<TimeSeriesItem> pagedData = applyPagination(timeSeriesData, filter);
             
-            return new TimeSeriesResponse(pagedData, filter, filter.period());
+            return new TimeSeriesResponse(pagedData, filter, filter.period()).withStatus(status);
             
-        }, "Time series data", createEmptyTimeSeriesResponse(filter));
+        } catch (Exception e) {
+            logger.error("Time series data 조회 실패: {}", e.getMessage());
+            return createEmptyTimeSeriesResponse(filter).withStatus(TimeSeriesResponse.STATUS_FAILED);
+        }
     }
     
     /**
      * 카테고리별 시계열 데이터 집계
      */
     public Map<String, TimeSeriesResponse> getCategoryTimeSeriesData(FilterRequest filter) {
-        return executeWithRetry(() -> {
-            Map<String, TimeSeriesResponse> categoryData = new HashMap<>();
-            
-            // 카테고리 목록 조회 (필터가 있으면 해당 카테고리만, 없으면 전체)
-            List<String> categories = filter.hasCategoryFilter() ? 
-                filter.categories() : getAllCategories();
-            
-            // 각 카테고리별로 시계열 데이터 생성
-            for (String category : categories) {
-                FilterRequest categoryFilter = createCategoryFilter(filter, category);
-                TimeSeriesResponse categoryResponse = getTimeSeriesData(categoryFilter);
-                categoryData.put(category, categoryResponse);
-            }
-            
-            return categoryData;
-            
-        }, "Category time series data", new HashMap<>());
+        // 카테고리 목록 조회 (필터가 있으면 해당 카테고리만, 없으면 전체)
+        List<String> categories = filter.hasCategoryFilter() ? 
+            filter.categories() : getAllCategories();
+        
+        return fanOutBreakdown("Category", categories, category -> createCategoryFilter(filter, category));
     }
     
     /**
      * 연령대별 시계열 데이터 집계
      */
     public Map<String, TimeSeriesResponse> getAgeGroupTimeSeriesData(FilterRequest filter) {
-        return executeWithRetry(() -> {
-            Map<String, TimeSeriesResponse> ageGroupData = new HashMap<>();
-            
-            List<String> ageGroups = filter.hasAgeGroupFilter() ? 
-                filter.ageGroups() : Arrays.asList("20", "30", "40", "50", "60");
-            
-            for (String ageGroup : ageGroups) {
-                FilterRequest ageFilter = createAgeGroupFilter(filter, ageGroup);
-                TimeSeriesResponse ageResponse = getTimeSeriesData(ageFilter);
-                ageGroupData.put(ageGroup, ageResponse);
-            }
-            
-            return ageGroupData;
-            
-        }, "Age group time series data", new HashMap<>());
+        List<String> ageGroups = filter.hasAgeGroupFilter() ? 
+            filter.ageGroups() : dimensionDictionary.current().ages();
+        
+        return fanOutBreakdown("Age group", ageGroups, ageGroup -> createAgeGroupFilter(filter, ageGroup));
     }
     
     /**
      * 성별 시계열 데이터 집계
      */
     public Map<String, TimeSeriesResponse> getGenderTimeSeriesData(FilterRequest filter) {
-        return executeWithRetry(() -> {
-            Map<String, TimeSeriesResponse> genderData = new HashMap<>();
-            
-            List<String> genders = filter.hasGenderFilter() ? 
-                filter.genders() : Arrays.asList("남자", "여자");
-            
-            for (String gender : genders) {
-                FilterRequest genderFilter = createGenderFilter(filter, gender);
-                TimeSeriesResponse genderResponse = getTimeSeriesData(genderFilter);
-                genderData.put(gender, genderResponse);
+        List<String> genders = filter.hasGenderFilter() ? 
+            filter.genders() : dimensionDictionary.current().genders();
+        
+        return fanOutBreakdown("Gender", genders, gender -> createGenderFilter(filter, gender));
+    }
+    
+    /**
+     * 분해 조회 공통 처리 - 값별 시계열을 전용 스레드 풀에서 병렬 조회
+     * 제한 시간 내에 끝나지 않거나 실패한 시리즈는 빈 데이터 + 상태값으로 채워 부분 결과를 반환
+     */
+    private Map<String, TimeSeriesResponse> fanOutBreakdown(String breakdownName, List<String> values,
+                                                            Function<String, FilterRequest> filterFactory) {
+        Map<String, FilterRequest> filters = new LinkedHashMap<>();
+        Map<String, CompletableFuture<TimeSeriesResponse>> futures = new LinkedHashMap<>();
+        long timeoutMillis = RequestDeadline.cap(breakdownTimeout).toMillis();
+        
+        for (String value : values) {
+            FilterRequest valueFilter = filterFactory.apply(value);
+            filters.put(value, valueFilter);
+            if (cubeSlice(valueFilter) != null) {
+                // 큐브로 답할 수 있는 시리즈는 스레드 풀을 거치지 않고 바로 계산
+                futures.put(value, CompletableFuture.completedFuture(getTimeSeriesData(valueFilter)));
+                continue;
             }
-            
-            return genderData;
-            
-        }, "Gender time series data", new HashMap<>());
+            try {
+                futures.put(value, CompletableFuture
+                    .supplyAsync(() -> getTimeSeriesData(valueFilter), breakdownExecutor)
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+            } catch (RejectedExecutionException e) {
+                futures.put(value, CompletableFuture.failedFuture(e));
+            }
+        }
+        
+        Map<String, TimeSeriesResponse> results = new LinkedHashMap<>();
+        int incomplete = 0;
+        
+        for (Map.Entry<String, CompletableFuture<TimeSeriesResponse>> entry : futures.entrySet()) {
+            String value = entry.getKey();
+            try {
+                results.put(value, entry.getValue().join());
+            } catch (CompletionException e) {
+                RequestDeadline.checkExpired();
+                String status = breakdownFailureStatus(e.getCause());
+                results.put(value, createEmptyTimeSeriesResponse(filters.get(value)).withStatus(status));
+                incomplete++;
+            }
+        }
+        
+        if (incomplete > 0) {
+            logger.warn("{} 시계열 분해 조회 부분 실패: {}/{}개 시리즈", breakdownName, incomplete, values.size());
+        }
+        return results;
+    }
+    
+    /**
+     * 이 시리즈의 버킷 조회 결과로 상태 결정 (요청 전체의 마감 초과 여부와 무관)
+     * 마감으로 생략/중단된 버킷이 있으면 TIMEOUT, 모든 버킷이 실패하면 FAILED, 일부만 실패하면 PARTIAL
+     */
+    private static String seriesStatus(VoicebotCountBatcher.Counts fetched) {
+        if (fetched.timedOut() > 0) {
+            return TimeSeriesResponse.STATUS_TIMEOUT;
+        }
+        if (fetched.failed() >= fetched.values().length) {
+            return TimeSeriesResponse.STATUS_FAILED;
+        }
+        return fetched.failed() > 0 ? TimeSeriesResponse.STATUS_PARTIAL : TimeSeriesResponse.STATUS_OK;
+    }
+    
+    /**
+     * 큐브가 시리즈 전체 기간(startDate~endDate)을 덮고 필터 값을 모두 알 때만 조회 경로, 아니면 null
+     */
+    private VocCube.Slice cubeSlice(FilterRequest filter) {
+        if (filter.startDate().isAfter(filter.endDate())) {
+            return null;
+        }
+        VocCube cube = vocCubeService.covering(filter.startDate(), filter.endDate());
+        return cube != null ? cube.slice(filter.categories(), filter.ageGroups(), filter.genders()) : null;
+    }
+    
+    private String breakdownFailureStatus(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return TimeSeriesResponse.STATUS_TIMEOUT;
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return TimeSeriesResponse.STATUS_REJECTED;
+        }
+        return TimeSeriesResponse.STATUS_FAILED;
     }
     
     /**
@@ -365,36 +429,24 @@ public class VocDataService {
     }
     
     /**
-     * 필터링된 건수 조회
+     * 필터링된 건수 조회 요청 생성
      */
-    private Long getFilteredCount(LocalDate date, FilterRequest filter) {
-        try {
-            Map<String, Object> request = new HashMap<>();
-            request.put("date", date.toString());
-            request.put("period", filter.period());
-            
-            // 필터 조건 추가
-            if (filter.hasCategoryFilter()) {
-                request.put("categories", filter.categories());
-            }
-            if (filter.hasAgeGroupFilter()) {
-                request.put("ageGroups", filter.ageGroups());
-            }
-            if (filter.hasGenderFilter()) {
-                request.put("genders", filter.genders());
-            }
-            
-            Map<String, Object> response = voicebotClient.getVocCountSummary(request);
-            if (response != null && response.get("data") != null) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
-                Object count = data.get("currentCount");
-                return count != null ? Long.valueOf(count.toString()) : 0L;
-            }
-            return 0L;
-        } catch (Exception e) {
-            logger.warn("필터링된 건수 조회 실패 ({}): {}", date, e.getMessage());
-            return 0L;
+    private Map<String, Object> buildFilteredCountRequest(LocalDate date, FilterRequest filter) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("date", date.toString());
+        request.put("period", filter.period());
+        
+        // 필터 조건 추가
+        if (filter.hasCategoryFilter()) {
+            request.put("categories", filter.categories());
         }
+        if (filter.hasAgeGroupFilter()) {
+            request.put("ageGroups", filter.ageGroups());
+        }
+        if (filter.hasGenderFilter()) {
+            request.put("genders", filter.genders());
+        }
+        return request;
     }
     
     /**
@@ -472,9 +524,13 @@ public class VocDataService {
     }
     
     /**
-     * 전체 카테고리 목록 조회 (실제로는 Normalization Service에서 조회해야 함)
+     * 전체 카테고리 목록 조회 - 인메모리 큐브가 있으면 큐브의 카테고리 사용
      */
     private List<String> getAllCategories() {
+        VocCube cube = vocCubeService.current();
+        if (cube != null && !cube.categories().isEmpty()) {
+            return cube.categories();
+        }
         // TODO: Normalization Service에서 카테고리 목록 조회
         return Arrays.asList(
             "상품문의", "배송문의", "결제문의", "교환/반품", "기술지원",
@@ -0,0 +1,27 @@
+package com.insightops.dashboard.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 대시보드 예열 결과 조회용 actuator 엔드포인트
+ * GET /actuator/warmup
+ */
+@Component
+@Endpoint(id = "warmup")
+public class WarmupEndpoint {
+
+    private final DashboardWarmup dashboardWarmup;
+
+    public WarmupEndpoint(DashboardWarmup dashboardWarmup) {
+        this.dashboardWarmup = dashboardWarmup;
+    }
+
+    @ReadOperation
+    public Map<String, Object> warmup() {
+        return dashboardWarmup.getLastRun();
+    }
+}
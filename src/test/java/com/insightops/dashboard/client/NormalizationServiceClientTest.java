@@ -0,0 +1,136 @@
+package com.insightops.dashboard.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import com.insightops.dashboard.dto.CaseItem;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class NormalizationServiceClientTest {
+
+    private static final Instant FROM = Instant.parse("2025-09-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-09-08T00:00:00Z");
+
+    // RestTemplate 메시지 컨버터와 같은 설정 (모르는 필드 무시)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ThreadPoolTaskExecutor executor;
+    private MockRestServiceServer server;
+    private NormalizationServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        ExternalServiceProperties properties = new ExternalServiceProperties();
+        ExternalServiceProperties.Paging paging = properties.get(ExternalServiceProperties.NORMALIZATION).getPaging();
+        paging.setPageSize(3);
+        paging.setPrefetchWindow(1);
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new NormalizationServiceClient(restTemplate, new ServiceGuard(properties, new SimpleMeterRegistry()),
+            objectMapper, executor, properties, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "normalizationServiceUrl", "http://normalization");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void streamingDecoderMatchesDtoDecodingWithoutAnalysisResult() throws Exception {
+        List<String> pages = List.of(page(0, 3), page(3, 3), page(6, 1));
+        for (int i = 0; i < pages.size(); i++) {
+            server.expect(requestTo(containsString("page=" + (i + 1) + "&size=3")))
+                .andRespond(withSuccess(pages.get(i), MediaType.APPLICATION_JSON));
+        }
+
+        List<CaseItem> streamed = new ArrayList<>();
+        int delivered = client.streamAllVocEvents(FROM, TO, null, streamed::add);
+
+        // 기존 경로: 응답 전체를 List<CaseItem>으로 읽음 (analysisResult 포함)
+        List<CaseItem> expected = new ArrayList<>();
+        for (String page : pages) {
+            for (CaseItem item : objectMapper.readValue(page, new TypeReference<List<CaseItem>>() {})) {
+                expected.add(new CaseItem(item.vocEventId(), item.sourceId(), item.consultingDate(),
+                    item.bigCategoryName(), item.consultingCategoryName(), item.clientAge(), item.clientGender(), null));
+            }
+        }
+        assertThat(delivered).isEqualTo(7);
+        assertThat(streamed).containsExactlyElementsOf(expected);
+        server.verify();
+    }
+
+    @Test
+    void emptyFirstPageDeliversNothing() {
+        server.expect(requestTo(containsString("page=1&size=3")))
+            .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        List<CaseItem> streamed = new ArrayList<>();
+        assertThat(client.streamAllVocEvents(FROM, TO, null, streamed::add)).isZero();
+        assertThat(streamed).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void failedPageFailsTheWholeStreamInsteadOfReturningPartialCount() throws Exception {
+        server.expect(requestTo(containsString("page=1&size=3")))
+            .andRespond(withSuccess(page(0, 3), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("page=2&size=3")))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        List<CaseItem> streamed = new ArrayList<>();
+        assertThatThrownBy(() -> client.streamAllVocEvents(FROM, TO, null, streamed::add))
+            .isInstanceOf(RestClientException.class);
+        server.verify();
+    }
+
+    /**
+     * start부터 count건 - 모르는 필드, 중첩 객체, 긴 analysisResult, null 값 포함
+     */
+    private String page(int start, int count) throws Exception {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int n = start; n < start + count; n++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("vocEventId", 1000L + n);
+            item.put("sourceId", "src-" + n);
+            item.put("consultingDate", "2025-09-0" + (n % 7 + 1));
+            item.put("bigCategoryName", n % 2 == 0 ? "조회/안내" : null);
+            item.put("analysisResult", "분석 ".repeat(500) + n);
+            item.put("metadata", Map.of("tags", List.of("a", "b"), "score", n * 0.5));
+            item.put("consultingCategoryName", "카테고리" + (n % 3));
+            item.put("clientAge", String.valueOf(20 + n % 4 * 10));
+            item.put("clientGender", n % 2 == 0 ? "여자" : "남자");
+            items.add(item);
+        }
+        return objectMapper.writeValueAsString(items);
+    }
+}
@@ -0,0 +1,201 @@
+package com.insightops.dashboard.client;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoicebotCountBatcherTest {
+
+    private VoicebotServiceClient voicebotClient;
+    private ThreadPoolTaskExecutor executor;
+    private VoicebotCountBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        voicebotClient = mock(VoicebotServiceClient.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        ExternalServiceProperties properties = new ExternalServiceProperties();
+        ExternalServiceProperties.Batch batch = properties.get(ExternalServiceProperties.VOICEBOT).getBatch();
+        batch.setMaxSize(2);
+        batch.setFallbackConcurrency(2);
+        batcher = new VoicebotCountBatcher(voicebotClient, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void coalescesBucketsIntoBulkCallsOfAtMostMaxSize() {
+        List<Map<String, Object>> requests = requests(5);
+        when(voicebotClient.getVocCountSummaries(anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> chunk = invocation.getArgument(0);
+            return chunk.stream().map(request -> summary((Integer) request.get("n"))).toList();
+        });
+
+        VoicebotCountBatcher.Counts counts = batcher.fetchCurrentCounts(requests);
+
+        // 5건을 최대 2건씩 묶어 3번 호출, 결과는 요청 순서 유지
+        assertThat(counts.values()).containsExactly(0L, 10L, 20L, 30L, 40L);
+        assertThat(counts.failed()).isZero();
+        verify(voicebotClient, times(3)).getVocCountSummaries(anyList());
+        verify(voicebotClient, never()).fetchVocCountSummary(anyMap());
+    }
+
+    @Test
+    void sendsSingleBulkCallWhenRequestsFitInOneBatch() {
+        when(voicebotClient.getVocCountSummaries(anyList()))
+            .thenReturn(List.of(summary(1), summary(2)));
+
+        assertThat(batcher.fetchCurrentCounts(requests(2)).values()).containsExactly(10L, 20L);
+        verify(voicebotClient, times(1)).getVocCountSummaries(anyList());
+    }
+
+    @Test
+    void splitsIntoSingleCallsWhenBulkApiIsMissing() {
+        when(voicebotClient.getVocCountSummaries(anyList()))
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(voicebotClient.fetchVocCountSummary(anyMap()))
+            .thenAnswer(invocation -> summary((Integer) invocation.<Map<String, Object>>getArgument(0).get("n")));
+
+        assertThat(batcher.fetchCurrentCounts(requests(5)).values()).containsExactly(0L, 10L, 20L, 30L, 40L);
+        verify(voicebotClient, times(5)).fetchVocCountSummary(anyMap());
+
+        // 미지원 판정 후에는 재확인 주기 전까지 벌크 API를 다시 부르지 않음
+        batcher.fetchCurrentCounts(requests(3));
+        verify(voicebotClient, times(1)).getVocCountSummaries(anyList());
+        verify(voicebotClient, times(8)).fetchVocCountSummary(anyMap());
+    }
+
+    @Test
+    void failedSingleCallLeavesOnlyThatBucketAtZero() {
+        when(voicebotClient.getVocCountSummaries(anyList()))
+            .thenThrow(new HttpClientErrorException(HttpStatus.METHOD_NOT_ALLOWED));
+        when(voicebotClient.fetchVocCountSummary(anyMap())).thenAnswer(invocation -> {
+            int n = (Integer) invocation.<Map<String, Object>>getArgument(0).get("n");
+            if (n == 2) {
+                throw new ResourceAccessException("timeout");
+            }
+            return summary(n);
+        });
+
+        VoicebotCountBatcher.Counts counts = batcher.fetchCurrentCounts(requests(4));
+
+        assertThat(counts.values()).containsExactly(0L, 10L, 0L, 30L);
+        assertThat(counts.failed()).isEqualTo(1);
+        assertThat(counts.timedOut()).isZero();
+    }
+
+    @Test
+    void bulkServerErrorFallsBackToSingleCallsWithoutMarkingUnsupported() {
+        when(voicebotClient.getVocCountSummaries(anyList()))
+            .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+            .thenReturn(List.of(summary(1), summary(2)));
+        when(voicebotClient.fetchVocCountSummary(anyMap()))
+            .thenAnswer(invocation -> summary((Integer) invocation.<Map<String, Object>>getArgument(0).get("n")));
+
+        assertThat(batcher.fetchCurrentCounts(requests(3)).values()).containsExactly(0L, 10L, 20L);
+        verify(voicebotClient, times(3)).fetchVocCountSummary(anyMap());
+
+        // 일시 장애이므로 다음 요청은 다시 벌크 API 사용
+        assertThat(batcher.fetchCurrentCounts(requests(2)).values()).containsExactly(10L, 20L);
+        verify(voicebotClient, times(2)).getVocCountSummaries(anyList());
+    }
+
+    @Test
+    void otherClientErrorIsNotRetriedAsSingleCalls() {
+        when(voicebotClient.getVocCountSummaries(anyList()))
+            .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> batcher.fetchCurrentCounts(requests(2)))
+            .isInstanceOf(HttpClientErrorException.class);
+        verify(voicebotClient, never()).fetchVocCountSummary(anyMap());
+    }
+
+    @Test
+    void rejectedLaneRunsOnCallerThread() {
+        ThreadPoolTaskExecutor saturated = new ThreadPoolTaskExecutor();
+        saturated.setCorePoolSize(1);
+        saturated.setMaxPoolSize(1);
+        saturated.setQueueCapacity(0);
+        saturated.initialize();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            saturated.execute(() -> awaitQuietly(release));
+            when(voicebotClient.getVocCountSummaries(anyList()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+            when(voicebotClient.fetchVocCountSummary(anyMap()))
+                .thenAnswer(invocation -> summary((Integer) invocation.<Map<String, Object>>getArgument(0).get("n")));
+            ExternalServiceProperties properties = new ExternalServiceProperties();
+            properties.get(ExternalServiceProperties.VOICEBOT).getBatch().setFallbackConcurrency(2);
+            VoicebotCountBatcher saturatedBatcher = new VoicebotCountBatcher(voicebotClient, saturated, properties);
+
+            assertThat(saturatedBatcher.fetchCurrentCounts(requests(4)).values()).containsExactly(0L, 10L, 20L, 30L);
+            release.countDown();
+        } finally {
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void expiredDeadlineSkipsAllCalls() {
+        RequestDeadline.set(RequestDeadline.after(Duration.ZERO));
+        try {
+            VoicebotCountBatcher.Counts counts = batcher.fetchCurrentCounts(requests(3));
+            assertThat(counts.values()).containsExactly(0L, 0L, 0L);
+            assertThat(counts.timedOut()).isEqualTo(3);
+            assertThat(RequestDeadline.current().wasExceeded()).isTrue();
+        } finally {
+            RequestDeadline.clear();
+        }
+        verify(voicebotClient, never()).getVocCountSummaries(anyList());
+        verify(voicebotClient, never()).fetchVocCountSummary(anyMap());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Map<String, Object>> requests(int size) {
+        List<Map<String, Object>> requests = new ArrayList<>();
+        IntStream.range(0, size).forEach(n -> requests.add(Map.of("n", n, "date", "2025-09-0" + (n + 1))));
+        return requests;
+    }
+
+    private static VocCountSummary summary(int n) {
+        return new VocCountSummary(n * 10L, 0L, true);
+    }
+}
@@ -0,0 +1,146 @@
+package com.insightops.dashboard.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import com.insightops.dashboard.dto.CategoryAggregationRow;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.ServiceGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class VoicebotServiceClientTest {
+
+    private static final String BASE_URL = "http://voicebot";
+    private static final String COUNT_SUMMARY_URL = BASE_URL + "/api/voc/count-summary";
+
+    // RestTemplate 메시지 컨버터와 같은 설정 (기존 Map 경로 재현용)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ThreadPoolTaskExecutor executor;
+    private MockRestServiceServer server;
+    private VoicebotServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+
+        ExternalServiceProperties properties = new ExternalServiceProperties();
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new VoicebotServiceClient(restTemplate, new ServiceGuard(properties, new SimpleMeterRegistry()),
+            properties, executor, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(client, "voicebotServiceUrl", BASE_URL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void countSummaryDecoderMatchesMapDecoding() throws Exception {
+        List<String> payloads = List.of(
+            "{\"success\":true,\"data\":{\"currentCount\":211,\"previousCount\":257,\"period\":\"daily\"}}",
+            "{\"data\":{\"previousCount\":\"1623\",\"currentCount\":\"1487\"},\"meta\":{\"took\":[1,2,3]}}",
+            "{\"data\":{\"currentCount\":9000000000,\"previousCount\":null}}",
+            "{\"data\":{}}",
+            "{\"success\":false,\"data\":null}",
+            "{\"success\":false}");
+
+        for (String payload : payloads) {
+            server.expect(once(), requestTo(COUNT_SUMMARY_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(payload, MediaType.APPLICATION_JSON));
+
+            VocCountSummary summary = client.getVocCountSummary(Map.of("period", "daily", "payload", payload));
+
+            Map<String, Object> response = objectMapper.readValue(payload, new TypeReference<Map<String, Object>>() {});
+            assertThat(summary.available()).as(payload).isEqualTo(response.get("data") != null);
+            assertThat(summary.currentCount()).as(payload).isEqualTo(mapCount(response, "currentCount"));
+            assertThat(summary.previousCount()).as(payload).isEqualTo(mapCount(response, "previousCount"));
+            server.verify();
+            server.reset();
+        }
+    }
+
+    @Test
+    void getVocCountSummaryReturnsUnavailableButFetchPropagatesTransportFailure() {
+        server.expect(once(), requestTo(COUNT_SUMMARY_URL)).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        assertThat(client.getVocCountSummary(Map.of("period", "daily"))).isEqualTo(VocCountSummary.UNAVAILABLE);
+        server.verify();
+        server.reset();
+
+        server.expect(once(), requestTo(COUNT_SUMMARY_URL)).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        assertThatThrownBy(() -> client.fetchVocCountSummary(Map.of("period", "weekly")))
+            .isInstanceOf(RestClientException.class);
+        server.verify();
+    }
+
+    @Test
+    void aggregationRowsDecodeSnakeAndCamelCaseFields() {
+        String payload = """
+            [{"bucket_date":"2025-09-01","consulting_category":"이용내역 안내","client_age":"30","client_gender":"여자","count":12,"extra":{"a":1}},
+             {"bucketStart":"2025-09-02","consultingCategory":"요금 문의","clientAge":null,"clientGender":"남자","count":"7"},
+             {"consulting_category":"해지","count":null}]
+            """;
+        server.expect(once(), requestTo(BASE_URL + "/api/aggregations/category-age-gender?granularity=day&from=2025-09-01&to=2025-09-02"))
+            .andRespond(withSuccess(payload, MediaType.APPLICATION_JSON));
+
+        List<CategoryAggregationRow> rows = client.getCategoryAgeGenderAggregation("day",
+            LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2));
+
+        assertThat(rows).containsExactly(
+            new CategoryAggregationRow(LocalDate.of(2025, 9, 1), "이용내역 안내", "30", "여자", 12L),
+            new CategoryAggregationRow(LocalDate.of(2025, 9, 2), "요금 문의", null, "남자", 7L),
+            new CategoryAggregationRow(null, "해지", null, null, 0L));
+        server.verify();
+    }
+
+    @Test
+    void malformedBucketDateIsHandledLikeOtherDecodeFailures() {
+        server.expect(once(), requestTo(BASE_URL + "/api/aggregations/category?granularity=day&from=2025-09-01&to=2025-09-01"))
+            .andRespond(withSuccess("[{\"bucket_date\":\"09/01/2025\",\"count\":3}]", MediaType.APPLICATION_JSON));
+
+        assertThat(client.getCategoryAggregation("day", LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 1))).isEmpty();
+        server.verify();
+    }
+
+    /**
+     * 기존 VocDataService 추출 방식: data.get(field) -> Long.valueOf(toString()), 없으면 0
+     */
+    @SuppressWarnings("unchecked")
+    private static long mapCount(Map<String, Object> response, String field) {
+        if (response.get("data") == null) {
+            return 0L;
+        }
+        Object count = ((Map<String, Object>) response.get("data")).get(field);
+        if (count == null) {
+            return 0L;
+        }
+        return Long.valueOf(count.toString());
+    }
+}
@@ -0,0 +1,95 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.AggByCategoryAgeGender;
+import com.insightops.dashboard.domain.AggTotal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 테이블 upsert 재실행 멱등성 (H2 MERGE 경로)
+ */
+@DataJpaTest
+@ActiveProfiles("local")
+@Import(AggregateUpsertWriter.class)
+class AggregateUpsertWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+
+    @Autowired AggregateUpsertWriter writer;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void upsertTotalsOverwritesByNaturalKey() {
+        writer.upsertTotals(List.of(total("daily", DAY, 10L, null), total("daily", DAY.plusDays(1), 20L, 10L)));
+        writer.upsertTotals(List.of(total("daily", DAY, 11L, 9L), total("weekly", DAY, 70L, 60L)));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT period_type, aggregation_date, total_count, prev_count FROM agg_total " +
+            "ORDER BY period_type, aggregation_date");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsEntry("TOTAL_COUNT", 11L).containsEntry("PREV_COUNT", 9L);
+        assertThat(rows.get(1)).containsEntry("TOTAL_COUNT", 20L);
+        assertThat(rows.get(2)).containsEntry("PERIOD_TYPE", "weekly").containsEntry("TOTAL_COUNT", 70L);
+        assertThat(count("agg_total", "last_updated IS NULL")).isZero();
+    }
+
+    @Test
+    void upsertCategoryRowsTreatsMissingAgeAndGenderAsOneKey() {
+        writer.upsertCategoryRows(List.of(
+            category("이용내역 안내", null, null, 5L), category("이용내역 안내", "30대", "여성", 2L)));
+        writer.upsertCategoryRows(List.of(
+            category("이용내역 안내", null, null, 7L), category("이용내역 안내", "30대", "여성", 3L)));
+
+        assertThat(count("agg_by_category_age_gender", "1 = 1")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count FROM agg_by_category_age_gender WHERE client_age = '' AND client_gender = ''", Long.class))
+            .isEqualTo(7L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count FROM agg_by_category_age_gender WHERE client_age = '30대' AND client_gender = '여성'",
+            Long.class)).isEqualTo(3L);
+    }
+
+    @Test
+    void emptyInputWritesNothing() {
+        writer.upsertTotals(List.of());
+        writer.upsertCategoryRows(List.of());
+
+        assertThat(count("agg_total", "1 = 1")).isZero();
+        assertThat(count("agg_by_category_age_gender", "1 = 1")).isZero();
+    }
+
+    private long count(String table, String where) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + where, Long.class);
+    }
+
+    private static AggTotal total(String periodType, LocalDate date, Long totalCount, Long prevCount) {
+        AggTotal row = new AggTotal();
+        row.setPeriodType(periodType);
+        row.setAggregationDate(date);
+        row.setTotalCount(totalCount);
+        row.setPrevCount(prevCount);
+        return row;
+    }
+
+    private static AggByCategoryAgeGender category(String category, String age, String gender, Long count) {
+        AggByCategoryAgeGender row = new AggByCategoryAgeGender();
+        row.setGranularity("day");
+        row.setBucketStart(DAY);
+        row.setConsultingCategory(category);
+        row.setClientAge(age);
+        row.setClientGender(gender);
+        row.setCount(count);
+        return row;
+    }
+}
@@ -0,0 +1,188 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.AggByCategoryAgeGender;
+import com.insightops.dashboard.domain.VocListCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선택 필터 조합별 동적 쿼리 결과와 실행 계획 (H2 EXPLAIN)
+ * 걸린 조건만 SQL에 붙으므로 조합마다 인덱스로 범위를 좁혀야 하고 테이블 전체 스캔이 없어야 함
+ */
+@DataJpaTest
+@ActiveProfiles("local")
+@Import(AggregateUpsertWriter.class)
+class OptionalFilterQueryTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    private static final List<String> AGES = List.of("20대", "30대", "40대");
+    private static final List<String> GENDERS = List.of("남성", "여성");
+    private static final List<String> CATEGORIES = List.of("이용내역 안내", "요금 안내", "해지 문의");
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired AggregateUpsertWriter upsertWriter;
+
+    private RecordingJdbcTemplate recording;
+    private AggByCategoryAgeGenderRepositoryImpl trendRepository;
+    private VocListCacheRepositoryImpl vocListRepository;
+
+    @BeforeEach
+    void setUp() {
+        recording = new RecordingJdbcTemplate(jdbcTemplate);
+        trendRepository = new AggByCategoryAgeGenderRepositoryImpl(recording);
+        vocListRepository = new VocListCacheRepositoryImpl(recording);
+
+        // 카테고리 i, 연령 j, 성별 k, 일자 d 행의 건수 = i + 1 (기간 밖 일자도 함께 저장)
+        List<AggByCategoryAgeGender> aggRows = new ArrayList<>();
+        for (LocalDate day = FROM.minusDays(10); !day.isAfter(TO.plusDays(10)); day = day.plusDays(1)) {
+            for (int i = 0; i < CATEGORIES.size(); i++) {
+                for (String age : AGES) {
+                    for (String gender : GENDERS) {
+                        aggRows.add(agg("day", day, CATEGORIES.get(i), age, gender, i + 1L));
+                        aggRows.add(agg("week", day, CATEGORIES.get(i), age, gender, 100L));
+                    }
+                }
+            }
+        }
+        upsertWriter.upsertCategoryRows(aggRows);
+
+        // 일자별로 카테고리/연령을 돌려가며 3건씩 (VoC 리스트 캐시)
+        int seq = 0;
+        for (LocalDate day = FROM.minusDays(10); !day.isAfter(TO.plusDays(10)); day = day.plusDays(1)) {
+            for (int n = 0; n < 3; n++, seq++) {
+                jdbcTemplate.update(
+                    "INSERT INTO voc_list_cache (voc_id, consulting_date, consulting_category, client_age, client_gender) " +
+                    "VALUES (?, ?, ?, ?, ?)",
+                    "voc-" + seq, day, CATEGORIES.get(seq % CATEGORIES.size()), AGES.get(seq % AGES.size()),
+                    GENDERS.get(seq % GENDERS.size()));
+            }
+        }
+    }
+
+    @Test
+    void smallTrendsForEveryAgeGenderCombination() {
+        List<String> ageOptions = new ArrayList<>(AGES.subList(0, 1));
+        ageOptions.add(null);
+        List<String> genderOptions = new ArrayList<>(GENDERS.subList(0, 1));
+        genderOptions.add(null);
+
+        for (String age : ageOptions) {
+            for (String gender : genderOptions) {
+                List<AggByCategoryAgeGenderRepository.SmallTrendRow> rows =
+                    trendRepository.findSmallTrends("day", FROM, TO, age, gender, 2);
+
+                long cells = (age != null ? 1 : AGES.size()) * (gender != null ? 1 : GENDERS.size()) * 30L;
+                assertThat(rows).as("age=%s gender=%s", age, gender)
+                    .extracting(AggByCategoryAgeGenderRepository.SmallTrendRow::getSmallName)
+                    .containsExactly("해지 문의", "요금 안내");
+                assertThat(rows.get(0).getCnt()).isEqualTo(3 * cells);
+                assertThat(rows.get(1).getCnt()).isEqualTo(2 * cells);
+
+                assertThat(recording.lastSql).as("age=%s gender=%s", age, gender).doesNotContain("IS NULL");
+                assertThat(explainLast()).as("age=%s gender=%s", age, gender)
+                    .contains("/* PUBLIC.IDX_CAT_AGE_GENDER_")
+                    .doesNotContain("tableScan");
+            }
+        }
+    }
+
+    @Test
+    void vocListStatsForEveryDateBoundCombination() {
+        assertStats(FROM, TO, 30);
+        assertStats(FROM, null, 40);
+        assertStats(null, TO, 40);
+    }
+
+    @Test
+    void vocListStatsWithoutBoundsCountWholeTable() {
+        Map<String, Long> byCategory = toMap(vocListRepository.getCategoryStats(null, null));
+
+        assertThat(byCategory.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(50 * 3);
+        assertThat(recording.lastSql).doesNotContain("WHERE");
+    }
+
+    private void assertStats(LocalDate from, LocalDate to, int days) {
+        Map<String, Long> byCategory = toMap(vocListRepository.getCategoryStats(from, to));
+        assertThat(byCategory.values().stream().mapToLong(Long::longValue).sum())
+            .as("from=%s to=%s", from, to).isEqualTo(days * 3L);
+        assertThat(byCategory).hasSize(CATEGORIES.size());
+        assertUsesDateIndex(from, to);
+
+        Map<String, Long> byAge = toMap(vocListRepository.getAgeStats(from, to));
+        assertThat(byAge.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(days * 3L);
+        assertThat(byAge).containsOnlyKeys(AGES);
+        assertUsesDateIndex(from, to);
+    }
+
+    private void assertUsesDateIndex(LocalDate from, LocalDate to) {
+        assertThat(recording.lastSql).as("from=%s to=%s", from, to).doesNotContain("IS NULL");
+        assertThat(explainLast()).as("from=%s to=%s", from, to)
+            .contains("/* PUBLIC.IDX_VOC_LIST_")
+            .doesNotContain("tableScan");
+    }
+
+    private String explainLast() {
+        return recording.explain();
+    }
+
+    private static Map<String, Long> toMap(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(row -> (String) row[0], row -> (Long) row[1]));
+    }
+
+    private static AggByCategoryAgeGender agg(String granularity, LocalDate day, String category, String age,
+                                              String gender, long count) {
+        AggByCategoryAgeGender row = new AggByCategoryAgeGender();
+        row.setGranularity(granularity);
+        row.setBucketStart(day);
+        row.setConsultingCategory(category);
+        row.setClientAge(age);
+        row.setClientGender(gender);
+        row.setCount(count);
+        return row;
+    }
+
+    /**
+     * 마지막으로 실행한 SQL/파라미터를 기억했다가 같은 조건으로 EXPLAIN 실행
+     */
+    private static class RecordingJdbcTemplate extends NamedParameterJdbcTemplate {
+
+        private String lastSql;
+        private SqlParameterSource lastParams;
+
+        RecordingJdbcTemplate(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper)
+                throws DataAccessException {
+            lastSql = sql;
+            lastParams = paramSource;
+            return super.query(sql, paramSource, rowMapper);
+        }
+
+        String explain() {
+            return super.query("EXPLAIN " + lastSql, lastParams, (rs, rowNum) -> rs.getString(1)).get(0);
+        }
+    }
+}
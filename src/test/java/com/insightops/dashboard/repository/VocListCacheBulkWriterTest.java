@@ -0,0 +1,147 @@
+package com.insightops.dashboard.repository;
+
+import com.insightops.dashboard.domain.VocListCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * voc_list_cache 일괄 교체 (H2, 작은 배치/트랜잭션 크기로 분할 경로까지 실행)
+ * 작성기가 REQUIRES_NEW로 커밋하므로 테스트 트랜잭션 없이 실행하고 매번 테이블을 비움
+ */
+@DataJpaTest(properties = {
+    "dashboard.voc-list-cache.batch-size=50",
+    "dashboard.voc-list-cache.transaction-rows=200"
+})
+@ActiveProfiles("local")
+@Import(VocListCacheBulkWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VocListCacheBulkWriterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    @Autowired VocListCacheBulkWriter writer;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Autowired VocListCacheRepository vocListRepo;
+
+    @BeforeEach
+    void cleanTable() {
+        jdbcTemplate.update("DELETE FROM voc_list_cache");
+        jdbcTemplate.update("DELETE FROM voc_list_cache_load");
+    }
+
+    @Test
+    void replacesRowsInsideRangeAndKeepsRowsOutside() {
+        writer.replaceRange(FROM, TO, List.of(
+            row("old-1", FROM), row("old-2", TO), row("outside", TO.plusDays(1))));
+
+        int inserted = writer.replaceRange(FROM, TO, List.of(row("new-1", FROM.plusDays(3))));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT voc_id FROM voc_list_cache ORDER BY voc_id", String.class))
+            .containsExactly("new-1", "outside");
+    }
+
+    @Test
+    void marksEveryDayOfRangeLoadedAfterRowsAreStored() {
+        writer.replaceRange(FROM, FROM.plusDays(9), rows("a", 10));
+
+        assertThat(vocListRepo.countLoadedDays(FROM, TO)).isEqualTo(10);
+        assertThat(vocListRepo.countLoadedDays(FROM, FROM.plusDays(9))).isEqualTo(10);
+    }
+
+    @Test
+    void failedReplaceLeavesRangeUnloaded() {
+        writer.replaceRange(FROM, TO, rows("a", 30));
+        VocListCache missingId = row(null, FROM);
+
+        assertThatThrownBy(() -> writer.replaceRange(FROM, FROM.plusDays(1), List.of(row("b", FROM), missingId)))
+            .isInstanceOf(DataAccessException.class);
+
+        // 교체가 끝나지 않은 일자만 적재 미완료로 남음 (남은 행이 있어도 로컬 조회 대상 아님)
+        assertThat(vocListRepo.countLoadedDays(FROM, TO)).isEqualTo(28);
+        assertThat(vocListRepo.countLoadedDays(FROM.plusDays(2), TO)).isEqualTo(28);
+    }
+
+    @Test
+    void deletesAndInsertsAcrossSeveralTransactions() {
+        // transaction-rows(200)를 넘는 행 수로 삭제 반복/저장 분할 경로 실행
+        writer.replaceRange(FROM, TO, rows("a", 1_234));
+        int inserted = writer.replaceRange(FROM, TO, rows("b", 567));
+
+        assertThat(inserted).isEqualTo(567);
+        assertThat(count("voc_id LIKE 'a-%'")).isZero();
+        assertThat(count("voc_id LIKE 'b-%'")).isEqualTo(567);
+    }
+
+    @Test
+    void fillsCreatedAtWhenMissingAndKeepsGivenValue() {
+        VocListCache withoutCreatedAt = row("no-created", FROM);
+        VocListCache withCreatedAt = row("created", FROM);
+        Instant createdAt = Instant.parse("2025-09-01T00:00:00Z");
+        withCreatedAt.setCreatedAt(createdAt);
+
+        writer.replaceRange(FROM, TO, List.of(withoutCreatedAt, withCreatedAt));
+
+        assertThat(count("created_at IS NULL OR updated_at IS NULL")).isZero();
+        assertThat(count("voc_id = 'created' AND created_at = TIMESTAMP '2025-09-01 00:00:00'")).isEqualTo(1);
+    }
+
+    @Test
+    void refreshesHundredThousandRows() {
+        // 처리량은 운영 기본값(배치 1000행, 트랜잭션 10000행)으로 측정
+        VocListCacheBulkWriter defaultWriter = new VocListCacheBulkWriter(jdbcTemplate, transactionManager, 1000, 10_000);
+        List<VocListCache> rows = rows("bulk", 100_000);
+
+        long start = System.nanoTime();
+        int inserted = defaultWriter.replaceRange(FROM, TO, rows);
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        System.out.println("voc_list_cache 100000행 교체: " + elapsedMs + "ms (" + inserted * 1000L / elapsedMs + "행/초)");
+        assertThat(inserted).isEqualTo(100_000);
+        assertThat(count("1 = 1")).isEqualTo(100_000);
+    }
+
+    private long count(String where) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM voc_list_cache WHERE " + where, Long.class);
+    }
+
+    private static List<VocListCache> rows(String prefix, int size) {
+        List<VocListCache> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(row(prefix + "-" + i, FROM.plusDays(i % 30)));
+        }
+        return rows;
+    }
+
+    private static VocListCache row(String vocId, LocalDate consultingDate) {
+        VocListCache row = new VocListCache();
+        row.setVocId(vocId);
+        row.setConsultingDate(consultingDate);
+        row.setConsultingCategory("이용내역 안내");
+        row.setClientAge("30대");
+        row.setClientGender("여성");
+        row.setSourceSystem("voicebot");
+        row.setSummaryText("요약");
+        return row;
+    }
+}
@@ -0,0 +1,164 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgerTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void disabledHedgerCallsOnceOnCallerThread() {
+        Hedger hedger = new Hedger("test", new ExternalServiceProperties.HedgeSettings(), executor, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertThat(hedger.call(() -> Thread.currentThread() == caller)).isTrue();
+        assertThat(count("upstream.hedge.sent")).isZero();
+    }
+
+    @Test
+    void slowPrimaryIsOvertakenByHedge() {
+        Hedger hedger = new Hedger("test", settings(1.0), executor, meterRegistry);
+        hedger.call(() -> "warm-up");   // 지연 표본 1건 (이후 헤지 대기시간은 minDelay)
+
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        String result = hedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(2_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(count("upstream.hedge.sent")).isEqualTo(1.0);
+        // won 카운터는 호출자에게 결과가 넘어간 뒤 헤지 스레드에서 증가하므로 잠시 기다림
+        awaitCount("upstream.hedge.won", 1.0);
+        assertThat(count("upstream.hedge.won")).isEqualTo(1.0);
+    }
+
+    @Test
+    void hedgeRatioCapSkipsHedges() {
+        Hedger hedger = new Hedger("test", settings(0.0), executor, meterRegistry);
+        hedger.call(() -> "warm-up");
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = hedger.call(() -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+        assertThat(count("upstream.hedge.sent")).isZero();
+        assertThat(count("upstream.hedge.skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    void nestedHedgedCallsDoNotStallSaturatedUpstreamPool() throws Exception {
+        // upstreamExecutor처럼 코어 스레드보다 많은 호출자가 큐에 쌓인 상태에서 각 호출자가 헤지 호출을 기다림
+        ThreadPoolTaskExecutor upstream = new ThreadPoolTaskExecutor();
+        upstream.setCorePoolSize(2);
+        upstream.setMaxPoolSize(2);
+        upstream.setQueueCapacity(500);
+        upstream.initialize();
+        try {
+            Hedger hedger = new Hedger("test", settings(1.0), executor, meterRegistry);
+            hedger.call(() -> "warm-up");
+
+            List<CompletableFuture<String>> callers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                callers.add(CompletableFuture.supplyAsync(() -> hedger.call(() -> {
+                    sleep(30);
+                    return "ok";
+                }), upstream));
+            }
+
+            CompletableFuture.allOf(callers.toArray(CompletableFuture<?>[]::new)).get(5, TimeUnit.SECONDS);
+            assertThat(callers).allSatisfy(caller -> assertThat(caller.join()).isEqualTo("ok"));
+        } finally {
+            upstream.shutdown();
+        }
+    }
+
+    @Test
+    void waitIsBoundedByRequestDeadline() {
+        Hedger hedger = new Hedger("test", settings(0.0), executor, meterRegistry);
+        hedger.call(() -> "warm-up");
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofMillis(100));
+        RequestDeadline.set(deadline);
+        try {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> hedger.call(() -> {
+                sleep(2_000);
+                return "late";
+            })).isInstanceOf(DeadlineExceededException.class);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(1_000);
+            assertThat(deadline.wasExceeded()).isTrue();
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static ExternalServiceProperties.HedgeSettings settings(double maxHedgeRatio) {
+        ExternalServiceProperties.HedgeSettings settings = new ExternalServiceProperties.HedgeSettings();
+        settings.setEnabled(true);
+        settings.setMinSamples(1);
+        settings.setMinDelay(Duration.ofMillis(20));
+        settings.setMaxDelay(Duration.ofMillis(50));
+        settings.setMaxHedgeRatio(maxHedgeRatio);
+        return settings;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private void awaitCount(String name, double expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (count(name) < expected && System.nanoTime() < deadline) {
+            sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.insightops.dashboard.resilience;
+
+import com.insightops.dashboard.config.ExternalServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceGuardTest {
+
+    private static final String SERVICE = ExternalServiceProperties.VOICEBOT;
+
+    private ServiceGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        ExternalServiceProperties properties = new ExternalServiceProperties();
+        ExternalServiceProperties.BreakerSettings breaker = properties.get(SERVICE).getCircuitBreaker();
+        breaker.setSlidingWindowSize(2);
+        breaker.setMinimumCalls(2);
+        breaker.setOpenDuration(Duration.ofMillis(20));
+        breaker.setHalfOpenCalls(1);
+        properties.get(SERVICE).getBulkhead().setMaxConcurrentCalls(1);
+        guard = new ServiceGuard(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void nonRestClientFailureReleasesHalfOpenPermitAndBulkheadSlot() throws InterruptedException {
+        openBreaker();
+        Thread.sleep(30);
+
+        // HALF_OPEN 시험 호출이 디코딩 오류 같은 일반 예외로 끝나도 허가/벌크헤드 자리가 반납되어야 함
+        assertThatThrownBy(() -> guard.call(SERVICE, () -> {
+            throw new IllegalStateException("decode failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        CircuitBreaker breaker = guard.getBreakers().get(SERVICE);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(guard.getBulkheads().get(SERVICE).getAvailablePermits()).isEqualTo(1);
+
+        Thread.sleep(30);
+        assertThat(guard.call(SERVICE, () -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void nullPointerFromSupplierCountsAsFailure() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(SERVICE, () -> {
+                throw new NullPointerException();
+            })).isInstanceOf(NullPointerException.class);
+        }
+
+        assertThat(guard.getBreakers().get(SERVICE).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(guard.getBulkheads().get(SERVICE).getAvailablePermits()).isEqualTo(1);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(SERVICE, () -> {
+                throw new ResourceAccessException("connection refused");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(guard.getBreakers().get(SERVICE).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
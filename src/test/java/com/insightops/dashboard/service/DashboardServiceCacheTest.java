@@ -0,0 +1,257 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.client.AdminServiceClient;
+import com.insightops.dashboard.client.MailServiceClient;
+import com.insightops.dashboard.client.NormalizationServiceClient;
+import com.insightops.dashboard.client.VoicebotServiceClient;
+import com.insightops.dashboard.config.CacheConfig;
+import com.insightops.dashboard.domain.VocListCache;
+import com.insightops.dashboard.dto.CaseItem;
+import com.insightops.dashboard.dto.FilterRequest;
+import com.insightops.dashboard.dto.ShareItem;
+import com.insightops.dashboard.dto.SmallTrendItem;
+import com.insightops.dashboard.repository.AggByBigCategoryRepository;
+import com.insightops.dashboard.repository.AggByCategoryAgeGenderRepository;
+import com.insightops.dashboard.repository.AggTotalRepository;
+import com.insightops.dashboard.repository.InsightCardRepository;
+import com.insightops.dashboard.repository.MessagePreviewCacheRepository;
+import com.insightops.dashboard.repository.VocListCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardService 조회 캐시 적중/미스 (CacheConfig의 Caffeine 캐시 + @Cacheable 프록시)
+ */
+@SpringJUnitConfig(DashboardServiceCacheTest.TestConfig.class)
+class DashboardServiceCacheTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    @Configuration
+    @Import({CacheConfig.class, DashboardService.class})
+    static class TestConfig {
+
+        // @Value("${dashboard.overview.refresh-after:1m}") Duration 변환용 (부트 자동 구성 없이 띄우므로 직접 등록)
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor refreshExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            return executor;
+        }
+    }
+
+    @Autowired DashboardService dashboardService;
+    @Autowired CacheManager cacheManager;
+
+    @MockBean AggTotalRepository aggTotalRepo;
+    @MockBean AggByCategoryAgeGenderRepository aggCategoryRepo;
+    @MockBean AggByBigCategoryRepository aggBigCategoryRepo;
+    @MockBean InsightCardRepository insightRepo;
+    @MockBean MessagePreviewCacheRepository messageRepo;
+    @MockBean VocListCacheRepository vocListRepo;
+    @MockBean VoicebotServiceClient voicebotClient;
+    @MockBean NormalizationServiceClient normalizationClient;
+    @MockBean MailServiceClient mailClient;
+    @MockBean AdminServiceClient adminClient;
+    @MockBean VocDataService vocDataService;
+    @MockBean DimensionDictionary dimensionDictionary;
+    @MockBean VocCubeService vocCubeService;
+
+    @BeforeEach
+    void clearCaches() {
+        CacheConfig.DASHBOARD_CACHES.forEach(name -> cacheManager.getCache(name).invalidate());
+    }
+
+    @Test
+    void repeatedRequestIsServedFromCache() {
+        when(aggCategoryRepo.findSmallTrends(anyString(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(List.of(trendRow("이용내역 안내", 12L)));
+
+        List<SmallTrendItem> first = dashboardService.getSmallTrends("daily", FROM, TO, "30", null, 10);
+        // 문자열 파라미터는 공백/대소문자를 정규화한 키로 같은 항목에 적중
+        List<SmallTrendItem> second = dashboardService.getSmallTrends(" Daily ", FROM, TO, "30", null, 10);
+
+        assertThat(second).isEqualTo(first);
+        verify(aggCategoryRepo, times(1)).findSmallTrends(anyString(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void differentParametersMiss() {
+        when(aggCategoryRepo.findSmallTrends(anyString(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(List.of(trendRow("이용내역 안내", 12L)));
+
+        dashboardService.getSmallTrends("daily", FROM, TO, "30", null, 10);
+        dashboardService.getSmallTrends("daily", FROM, TO, "40", null, 10);
+
+        verify(aggCategoryRepo, times(2)).findSmallTrends(anyString(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void emptyResultIsNotCached() {
+        when(aggCategoryRepo.findSmallTrends(anyString(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        dashboardService.getSmallTrends("daily", FROM, TO, null, null, 10);
+        dashboardService.getSmallTrends("daily", FROM, TO, null, null, 10);
+
+        verify(aggCategoryRepo, times(2)).findSmallTrends(anyString(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void upstreamFailureIsNotCached() {
+        when(aggBigCategoryRepo.countCoveredBuckets(any(), any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("db down"));
+        when(aggTotalRepo.findSeries(eq("daily"), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThat(dashboardService.getBigCategoryShare("month", FROM, TO)).isEmpty();
+        assertThat(dashboardService.getBigCategoryShare("month", FROM, TO)).isEmpty();
+        assertThat(dashboardService.getTotalSeries("daily", FROM, TO)).isEmpty();
+        assertThat(dashboardService.getTotalSeries("daily", FROM, TO)).isEmpty();
+
+        verify(aggBigCategoryRepo, times(2)).countCoveredBuckets(any(), any(), any(), any(), any(), any());
+        verify(aggTotalRepo, times(2)).findSeries(eq("daily"), any(), any());
+    }
+
+    @Test
+    void fullyCoveredRollupServesBigCategoryShare() {
+        // 9월 한 달 = month 버킷 1개
+        when(aggBigCategoryRepo.countCoveredBuckets(any(), any(), any(), any(), any(), any())).thenReturn(1L);
+        when(aggBigCategoryRepo.findShare(any(), any(), any(), any(), any(), any()))
+            .thenReturn(List.of(shareRow("조회/안내", 40L)));
+
+        assertThat(dashboardService.getBigCategoryShare("month", FROM, TO))
+            .extracting(ShareItem::name, ShareItem::count)
+            .containsExactly(tuple("조회/안내", 40L));
+        verify(normalizationClient, never()).streamAllVocEvents(any(), any(), any(), any());
+    }
+
+    @Test
+    void partiallyCoveredRollupFallsBackToStream() {
+        // 9/10~10/5: 온전한 달이 없으므로 day 버킷 26개 중 일부만 있음
+        when(aggBigCategoryRepo.countCoveredBuckets(any(), any(), any(), any(), any(), any())).thenReturn(20L);
+        when(dimensionDictionary.current()).thenReturn(DimensionDictionary.Codes.build(Map.of("이용내역 안내", "조회/안내")));
+        doAnswer(invocation -> {
+            Consumer<CaseItem> sink = invocation.getArgument(3);
+            for (int i = 0; i < 3; i++) {
+                sink.accept(new CaseItem((long) i, null, null, null, "이용내역 안내", null, null, null));
+            }
+            return 3;
+        }).when(normalizationClient).streamAllVocEvents(any(), any(), any(), any());
+
+        List<ShareItem> share = dashboardService.getBigCategoryShare("day", LocalDate.of(2025, 9, 10),
+            LocalDate.of(2025, 10, 5));
+
+        assertThat(share).extracting(ShareItem::name, ShareItem::count).containsExactly(tuple("조회/안내", 3L));
+        verify(aggBigCategoryRepo).countCoveredBuckets(LocalDate.of(2025, 9, 10), LocalDate.of(2025, 10, 5),
+            LocalDate.of(2025, 10, 1), LocalDate.of(2025, 9, 30), LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 5));
+        verify(aggBigCategoryRepo, never()).findShare(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void chartGranularityReadsMatchingAggTotalPeriod() {
+        dashboardService.getTotalSeries("month", FROM, TO);
+
+        verify(aggTotalRepo).findSeries("monthly", FROM, TO);
+    }
+
+    @Test
+    void invalidationForcesReload() {
+        when(aggCategoryRepo.findSmallTrends(anyString(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(List.of(trendRow("이용내역 안내", 12L)));
+
+        dashboardService.getSmallTrends("daily", FROM, TO, null, null, 10);
+        cacheManager.getCache(CacheConfig.SMALL_TRENDS).invalidate();
+        dashboardService.getSmallTrends("daily", FROM, TO, null, null, 10);
+
+        verify(aggCategoryRepo, times(2)).findSmallTrends(anyString(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void filteredCasesUseListCacheOnlyWhenEveryDayIsLoaded() {
+        FilterRequest filter = new FilterRequest(FROM, TO, "daily");
+        when(vocListRepo.findAll(ArgumentMatchers.<Specification<VocListCache>>any(), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        // 30일 중 29일만 적재 완료 - 캐시에 행이 있어도 정규화 서비스 조회
+        when(vocListRepo.countLoadedDays(FROM, TO)).thenReturn(29L);
+        assertThat(dashboardService.getFilteredCases(filter)).containsEntry("source", "upstream");
+        verify(vocListRepo, never()).findAll(ArgumentMatchers.<Specification<VocListCache>>any(), any(Pageable.class));
+
+        when(vocListRepo.countLoadedDays(FROM, TO)).thenReturn(30L);
+        assertThat(dashboardService.getFilteredCases(filter)).containsEntry("source", "local");
+        verify(normalizationClient, times(1)).getVocEventsWithSummary(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    private static AggByBigCategoryRepository.ShareRow shareRow(String bigCategory, long count) {
+        return new AggByBigCategoryRepository.ShareRow() {
+            @Override
+            public String getBigCategory() {
+                return bigCategory;
+            }
+
+            @Override
+            public Long getCnt() {
+                return count;
+            }
+        };
+    }
+
+    private static AggByCategoryAgeGenderRepository.SmallTrendRow trendRow(String name, long count) {
+        return new AggByCategoryAgeGenderRepository.SmallTrendRow() {
+            @Override
+            public String getSmallName() {
+                return name;
+            }
+
+            @Override
+            public Long getCnt() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.dto.OverviewDto;
+import com.insightops.dashboard.dto.SeriesPoint;
+import com.insightops.dashboard.dto.ShareItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardWarmupTest {
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    private final VocCubeService vocCubeService = mock(VocCubeService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DashboardWarmup warmup = new DashboardWarmup(dashboardService, vocCubeService, meterRegistry, true);
+
+    @Test
+    void cachedResultsAreReportedAsCompleted() {
+        when(vocCubeService.current()).thenReturn(null, VocCube.empty(LocalDate.now()));
+        when(dashboardService.getOverview(anyString())).thenReturn(overview());
+        when(dashboardService.isOverviewCached(anyString())).thenReturn(true);
+        when(dashboardService.getBigCategoryShare(eq("month"), any(), any()))
+            .thenReturn(List.of(new ShareItem("조회/안내", 10, 100.0)));
+        when(dashboardService.getTotalSeries(eq("month"), any(), any()))
+            .thenReturn(List.of(new SeriesPoint(LocalDate.now(), 10)));
+        when(dashboardService.getInsights()).thenReturn(List.of());
+
+        warmup.warmUp("test");
+
+        Map<String, Object> lastRun = warmup.getLastRun();
+        assertThat(lastRun).containsEntry("status", "COMPLETED");
+        assertThat(lastRun.get("warmed")).asList()
+            .contains("cube", "overview:daily", "big-category-share:month", "total-series:month", "insights");
+        assertThat(meterRegistry.get("dashboard.warmup").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fallbackResultsAreReportedAsFailures() {
+        // 원천 장애: 서비스는 예외 대신 Mock 오버뷰와 빈 목록을 반환
+        when(vocCubeService.current()).thenReturn(null);
+        when(dashboardService.getOverview(anyString())).thenReturn(overview());
+        when(dashboardService.isOverviewCached(anyString())).thenReturn(false);
+        when(dashboardService.getBigCategoryShare(anyString(), any(), any())).thenReturn(List.of());
+        when(dashboardService.getTotalSeries(anyString(), any(), any())).thenReturn(List.of());
+        when(dashboardService.getInsights()).thenReturn(List.of());
+
+        warmup.warmUp("test");
+
+        Map<String, Object> lastRun = warmup.getLastRun();
+        assertThat(lastRun).containsEntry("status", "PARTIAL");
+        assertThat(lastRun.get("failed")).asList().containsExactly("cube", "overview:daily", "overview:weekly",
+            "overview:monthly", "big-category-share:month", "total-series:month");
+        assertThat(meterRegistry.get("dashboard.warmup").tag("outcome", "partial").timer().count()).isEqualTo(1);
+        verify(vocCubeService).refresh();
+    }
+
+    private static OverviewDto overview() {
+        return new OverviewDto(10, 8, 25.0, "이용내역 안내", 30.0);
+    }
+}
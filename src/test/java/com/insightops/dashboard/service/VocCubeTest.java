@@ -0,0 +1,67 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.repository.AggByCategoryAgeGenderRepository.CubeRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VocCubeTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+
+    private final VocCube cube = VocCube.empty(DAY).merge(DAY, Set.of(), List.of(
+        row(DAY, "이용내역 안내", "30", "여자", 3),
+        row(DAY.plusDays(1), "이용내역 안내", "40", "남자", 5),
+        row(DAY.plusDays(1), "한도 안내", "30", "남자", 7)));
+
+    @Test
+    void knownFilterValuesAreCountedFromCube() {
+        assertThat(cube.slice(null, null, null).count(DAY, DAY.plusDays(1))).isEqualTo(15);
+        assertThat(cube.slice(List.of("이용내역 안내"), null, null).count(DAY, DAY.plusDays(1))).isEqualTo(8);
+        assertThat(cube.slice(List.of("이용내역 안내"), List.of("30"), List.of("여자")).count(DAY, DAY)).isEqualTo(3);
+        assertThat(cube.countByCategory(DAY, DAY.plusDays(1), List.of("30"), null))
+            .containsEntry("이용내역 안내", 3L)
+            .containsEntry("한도 안내", 7L);
+    }
+
+    @Test
+    void unknownFilterValueIsNotAnsweredAsZero() {
+        assertThat(cube.slice(List.of("이용내역 안내", "없는 카테고리"), null, null)).isNull();
+        assertThat(cube.slice(null, List.of("70"), null)).isNull();
+        assertThat(cube.slice(null, null, List.of("미상"))).isNull();
+        assertThat(cube.countByCategory(DAY, DAY, null, List.of("미상"))).isNull();
+    }
+
+    private static CubeRow row(LocalDate day, String category, String age, String gender, long count) {
+        return new CubeRow() {
+            @Override
+            public LocalDate getBucketStart() {
+                return day;
+            }
+
+            @Override
+            public String getConsultingCategory() {
+                return category;
+            }
+
+            @Override
+            public String getClientAge() {
+                return age;
+            }
+
+            @Override
+            public String getClientGender() {
+                return gender;
+            }
+
+            @Override
+            public Long getCnt() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.client.VoicebotCountBatcher;
+import com.insightops.dashboard.client.VoicebotServiceClient;
+import com.insightops.dashboard.config.RetryProperties;
+import com.insightops.dashboard.dto.VocCountSummary;
+import com.insightops.dashboard.resilience.AsyncRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VocDataServiceRetryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+
+    private VoicebotServiceClient voicebotClient;
+    private ThreadPoolTaskExecutor executor;
+    private AsyncRetryExecutor retryExecutor;
+    private VocDataService vocDataService;
+
+    @BeforeEach
+    void setUp() {
+        voicebotClient = mock(VoicebotServiceClient.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        RetryProperties properties = new RetryProperties();
+        properties.setInitialBackoff(Duration.ofMillis(5));
+        properties.setMaxBackoff(Duration.ofMillis(10));
+        retryExecutor = new AsyncRetryExecutor(executor, properties, new SimpleMeterRegistry());
+        vocDataService = new VocDataService(voicebotClient, mock(VoicebotCountBatcher.class),
+            mock(VocCubeService.class), mock(DimensionDictionary.class), retryExecutor, executor,
+            Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryExecutor.destroy();
+        executor.shutdown();
+    }
+
+    @Test
+    void transportFailuresAreRetried() {
+        when(voicebotClient.fetchVocCountSummary(anyMap()))
+            .thenThrow(new ResourceAccessException("connection reset"))
+            .thenThrow(new ResourceAccessException("connection reset"))
+            .thenReturn(new VocCountSummary(42L, 40L, true));
+
+        assertThat(vocDataService.getDailyVocCount(DATE)).isEqualTo(42L);
+        verify(voicebotClient, times(3)).fetchVocCountSummary(anyMap());
+    }
+
+    @Test
+    void exhaustedRetriesFallBackToDefault() {
+        when(voicebotClient.fetchVocCountSummary(anyMap())).thenThrow(new ResourceAccessException("timeout"));
+
+        assertThat(vocDataService.getDailyVocCount(DATE)).isZero();
+        assertThat(vocDataService.findDailyVocCount(DATE)).isNull();
+        verify(voicebotClient, times(6)).fetchVocCountSummary(anyMap());
+    }
+
+    @Test
+    void responseWithoutDataIsNotRetried() {
+        when(voicebotClient.fetchVocCountSummary(anyMap())).thenReturn(VocCountSummary.UNAVAILABLE);
+
+        assertThat(vocDataService.findDailyVocCount(DATE)).isNull();
+        verify(voicebotClient, times(1)).fetchVocCountSummary(anyMap());
+    }
+}
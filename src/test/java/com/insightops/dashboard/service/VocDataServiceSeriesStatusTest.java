@@ -0,0 +1,85 @@
+package com.insightops.dashboard.service;
+
+import com.insightops.dashboard.client.VoicebotCountBatcher;
+import com.insightops.dashboard.client.VoicebotServiceClient;
+import com.insightops.dashboard.dto.FilterRequest;
+import com.insightops.dashboard.dto.TimeSeriesResponse;
+import com.insightops.dashboard.resilience.AsyncRetryExecutor;
+import com.insightops.dashboard.resilience.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VocDataServiceSeriesStatusTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 3);
+
+    private VoicebotCountBatcher countBatcher;
+    private ThreadPoolTaskExecutor executor;
+    private VocDataService vocDataService;
+
+    @BeforeEach
+    void setUp() {
+        countBatcher = mock(VoicebotCountBatcher.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        vocDataService = new VocDataService(mock(VoicebotServiceClient.class), countBatcher,
+            mock(VocCubeService.class), mock(DimensionDictionary.class), mock(AsyncRetryExecutor.class), executor,
+            Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+        executor.shutdown();
+    }
+
+    @Test
+    void completedSeriesStaysOkAfterRequestDeadlineWasExceededElsewhere() {
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(5));
+        deadline.markExceeded();
+        RequestDeadline.set(deadline);
+        when(countBatcher.fetchCurrentCounts(anyList()))
+            .thenReturn(new VoicebotCountBatcher.Counts(new long[] {1L, 2L, 3L}, 0, 0));
+
+        TimeSeriesResponse response = vocDataService.getTimeSeriesData(new FilterRequest(FROM, TO, "daily"));
+
+        assertThat(response.status()).isEqualTo(TimeSeriesResponse.STATUS_OK);
+        assertThat(response.totalCount()).isEqualTo(6L);
+    }
+
+    @Test
+    void statusFollowsEachSeriesOwnBuckets() {
+        when(countBatcher.fetchCurrentCounts(anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> requests = invocation.getArgument(0);
+            String category = ((List<?>) requests.get(0).get("categories")).get(0).toString();
+            return switch (category) {
+                case "timeout" -> new VoicebotCountBatcher.Counts(new long[] {5L, 0L, 0L}, 0, 2);
+                case "partial" -> new VoicebotCountBatcher.Counts(new long[] {5L, 0L, 7L}, 1, 0);
+                case "failed" -> new VoicebotCountBatcher.Counts(new long[3], 3, 0);
+                default -> new VoicebotCountBatcher.Counts(new long[] {1L, 1L, 1L}, 0, 0);
+            };
+        });
+        FilterRequest filter = new FilterRequest(FROM, TO, "daily", List.of("ok", "timeout", "partial", "failed"));
+
+        Map<String, TimeSeriesResponse> series = vocDataService.getCategoryTimeSeriesData(filter);
+
+        assertThat(series.get("ok").status()).isEqualTo(TimeSeriesResponse.STATUS_OK);
+        assertThat(series.get("timeout").status()).isEqualTo(TimeSeriesResponse.STATUS_TIMEOUT);
+        assertThat(series.get("partial").status()).isEqualTo(TimeSeriesResponse.STATUS_PARTIAL);
+        assertThat(series.get("failed").status()).isEqualTo(TimeSeriesResponse.STATUS_FAILED);
+    }
+}